@@ -21,6 +21,7 @@ const ArtistDashboard = () => {
   const [loading, setLoading] = useState(true);
   const [ongoingAuctions, setOngoingAuctions] = useState([]);
   const [ongoingEvents, setOngoingEvents] = useState([]);
+  const [inventory, setInventory] = useState(null);
   const navigation = useNavigation();
   const flickerAnim = new Animated.Value(0);
 
@@ -57,6 +58,12 @@ const ArtistDashboard = () => {
       const { data: seller } = await axios.get(`http://192.168.8.108:8080/api/sellers/${sellerId}`);
       setSellerData(seller);
 
+      // Inventory counts per status plus the latest artworks, one paged call
+      const { data: inventoryPage } = await axios.get(
+        `http://192.168.8.108:8080/api/artworks/inventory?sellerId=${sellerId}&page=0&size=5`
+      );
+      setInventory(inventoryPage);
+
       // Mock data for demonstration - replace with actual API calls
       setMonthlyIncome(1250);
       setYearlyIncome(15600);
@@ -206,6 +213,32 @@ const ArtistDashboard = () => {
         </View>
       </View>
 
+      {/* Inventory Section */}
+      <View style={styles.section}>
+        <Text style={styles.subTitle}>Inventory ({inventory?.total || 0})</Text>
+        <View style={styles.infoRow}>
+          <Text style={styles.infoLabel}>Available:</Text>
+          <Text style={styles.infoValue}>{inventory?.statusCounts?.AVAILABLE || 0}</Text>
+        </View>
+        <View style={styles.infoRow}>
+          <Text style={styles.infoLabel}>In Auction:</Text>
+          <Text style={styles.infoValue}>{inventory?.statusCounts?.PENDING_AUCTION || 0}</Text>
+        </View>
+        <View style={styles.infoRow}>
+          <Text style={styles.infoLabel}>Sold Out:</Text>
+          <Text style={styles.infoValue}>{inventory?.statusCounts?.SOLD_OUT || 0}</Text>
+        </View>
+        {inventory?.items?.length > 0 ? (
+          inventory.items.map((art) => (
+            <View key={art.id} style={styles.artworkItem}>
+              <Text style={styles.artworkTitle}>🎨 {art.artworkName || 'Untitled'}</Text>
+            </View>
+          ))
+        ) : (
+          <Text style={styles.noDataText}>No artworks found.</Text>
+        )}
+      </View>
+
       {/* Ongoing Auctions Section */}
       <View style={styles.section}>
         <View style={styles.sectionHeader}>
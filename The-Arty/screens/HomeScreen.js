@@ -77,7 +77,16 @@ const HomeScreen = ({ navigation }) => {
     setRefreshing(true);
     try {
       const response = await fetch('http://192.168.8.108:8080/api/artworks/all');
-      const data = await response.json();
+      // newline-delimited JSON, one artwork per line
+      const text = await response.text();
+      const data = text
+        .split("\n")
+        .filter(line => line.trim().length > 0)
+        .map(line => {
+          const artwork = JSON.parse(line);
+          artwork.imageUrls = artwork.imageUrls.map(url => `http://192.168.8.108:8080${url}?size=card`);
+          return artwork;
+        });
       
       // Filter only available artworks
       const availableArtworks = data.filter(artwork => 
@@ -92,7 +92,7 @@ const ProductScreen = ({ navigation }) => {
   {product.images.map((img, index) => (
     <Image
       key={index}
-      source={{ uri: img }}
+      source={{ uri: `http://192.168.8.108:8080${img}` }}
       style={styles.image}
       resizeMode="contain"
     />
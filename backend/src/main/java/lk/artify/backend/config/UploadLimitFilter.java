@@ -0,0 +1,59 @@
+package lk.artify.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lk.artify.backend.service.UploadLimitExceededException;
+import lk.artify.backend.service.UploadLimiter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Takes the upload budget for a multipart request before anything reads its
+ * body. The DispatcherServlet parses multipart only after the filters, so a
+ * request that is too large or arrives while the node is saturated is turned
+ * away before it is spooled to disk. Requests without a Content-Length are
+ * charged the full per-request limit.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class UploadLimitFilter extends OncePerRequestFilter {
+
+    private final UploadLimiter uploadLimiter;
+
+    public UploadLimitFilter(UploadLimiter uploadLimiter) {
+        this.uploadLimiter = uploadLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long length = request.getContentLengthLong();
+        UploadLimiter.Reservation reservation;
+        try {
+            reservation = uploadLimiter.reserve(length >= 0 ? length : uploadLimiter.maxRequestBytes());
+        } catch (UploadLimitExceededException e) {
+            response.setStatus(e.isRetryable() ? 503 : 413);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"success\": false, \"message\": \"" + e.getMessage() + "\"}");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            reservation.close();
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package lk.artify.backend.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,5 +20,19 @@ public class WebConfig implements WebMvcConfigurer {
         registry
             .addResourceHandler("/uploads/business_profile_pic/**")  
             .addResourceLocations("file:" + Paths.get("uploads/business_profile_pic").toAbsolutePath() + "/");
+
+        // pictures saved before AvatarService under /uploads/<uuid>_<name>; new avatars are served by AvatarController
+        registry
+            .addResourceHandler("/uploads/**")
+            .addResourceLocations("file:" + Paths.get("uploads").toAbsolutePath() + "/")
+            .setCacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+            .resourceChain(true)
+            .addResolver(new PathResourceResolver() {
+                // only the flat legacy files; never the blob store or other subdirectories
+                @Override
+                protected Resource getResource(String resourcePath, Resource location) throws IOException {
+                    return resourcePath.contains("/") ? null : super.getResource(resourcePath, location);
+                }
+            });
     }
 }
@@ -29,7 +29,10 @@ public class WebSecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/api/users/**", "/api/sellers/**", "/api/artworks/**","/api/auctions").permitAll()
+                .requestMatchers("/api/auth/**", "/api/users/**", "/api/sellers/**", "/api/artworks/**","/api/auctions", "/api/suggest", "/uploads/**").permitAll()
+                // client-facing auction routes only; operational endpoints such as /persister/stats stay behind auth
+                .requestMatchers("/api/auctions/*/state", "/api/auctions/*/snapshot", "/api/auctions/*/events",
+                        "/api/auctions/*/stream", "/api/auctions/*/bids", "/api/auctions/*/proxy-bids").permitAll()
                 .anyRequest().authenticated()
             );
 
@@ -2,38 +2,64 @@ package lk.artify.backend.controller;
 
 import lk.artify.backend.model.ArtWork;
 import lk.artify.backend.model.ArtWork.SellingStatus;
-import lk.artify.backend.model.ArtWorkImage;
-import lk.artify.backend.model.Seller;
 import lk.artify.backend.repository.ArtWorkRepository;
-import lk.artify.backend.repository.SellerRepository;
-import lk.artify.backend.service.ArtWorkImageService;
+import lk.artify.backend.service.ArtWorkService;
+import lk.artify.backend.service.ArtworkCatalogExporter;
+import lk.artify.backend.service.ArtworkDetailService;
+import lk.artify.backend.service.ArtworkFacetIndex;
+import lk.artify.backend.service.ArtworkSearchIndex;
+import lk.artify.backend.service.HomeFeedCache;
+import lk.artify.backend.service.HomeFeedService;
+import lk.artify.backend.service.SellerInventoryService;
 import lk.artify.backend.dto.ArtworkBasicInfoDTO;
-import lk.artify.backend.dto.ArtworkHomeDTO;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/artworks")
 @CrossOrigin(origins = "*")
 public class ArtworkController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private ArtWorkRepository artWorkRepository;
 
     @Autowired
-    private SellerRepository sellerRepository;
+    private HomeFeedCache homeFeedCache;
+
+    @Autowired
+    private ArtWorkService artWorkService;
+
+    @Autowired
+    private ArtworkCatalogExporter artworkCatalogExporter;
+
+    @Autowired
+    private ArtworkDetailService artworkDetailService;
+
+    @Autowired
+    private SellerInventoryService sellerInventoryService;
+
+    @Value("${artify.batch.max-ids:100}")
+    private int maxBatchIds;
 
     @Autowired
-    private ArtWorkImageService artWorkImageService;
+    private ArtworkSearchIndex artworkSearchIndex;
+
+    @Autowired
+    private ArtworkFacetIndex artworkFacetIndex;
 
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<?> createArtwork(
@@ -79,20 +105,7 @@ public class ArtworkController {
             artWork.setApproved(false);
             artWork.setAddedDate(LocalDate.now());
 
-            Seller seller = sellerRepository.findById(sellerId)
-                    .orElseThrow(() -> new IllegalArgumentException("Seller not found"));
-            artWork.setSeller(seller);
-
-            ArtWork savedArtWork = artWorkRepository.save(artWork);
-
-            List<ArtWorkImage> imageEntities = new ArrayList<>();
-            for (MultipartFile imageFile : images) {
-                ArtWorkImage image = artWorkImageService.storeImage(imageFile, savedArtWork);
-                imageEntities.add(image);
-            }
-
-            savedArtWork.setImages(imageEntities);
-            artWorkRepository.save(savedArtWork); 
+            artWorkService.createArtwork(artWork, sellerId, images);
 
             return ResponseEntity.ok().body("{\"success\": true}");
         } catch (Exception e) {
@@ -106,50 +119,113 @@ public class ArtworkController {
     public List<ArtworkBasicInfoDTO> getArtworksBySellerAndStatus(
             @RequestParam Long sellerId,
             @RequestParam SellingStatus status) {
-        
-        return artWorkRepository.findBySeller_sellerIdAndSellingStatus(sellerId, status)
-                .stream()
-                .map(artwork -> new ArtworkBasicInfoDTO(
-                        artwork.getId(),
-                        artwork.getArtworkName()))
-                .collect(Collectors.toList());
+        return artWorkRepository.findBySeller_sellerIdAndSellingStatus(sellerId, status);
     }
 
-    // New endpoint for home screen
-    @GetMapping("/home")
-    public ResponseEntity<List<ArtworkHomeDTO>> getArtworksForHome(
-            @RequestParam(required = false) Long auctionId) {
-        
-        // Get artworks that are not in any auction (auctionId is null)
-        List<ArtWork> artworks;
-        if (auctionId != null) {
-            artworks = artWorkRepository.findByAuctionId(auctionId);
-        } else {
-            artworks = artWorkRepository.findByAuctionIsNull();
+    // status omitted lists every artwork of the seller
+    @GetMapping("/inventory")
+    public ResponseEntity<?> getSellerInventory(
+            @RequestParam Long sellerId,
+            @RequestParam(required = false) SellingStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > HomeFeedService.MAX_LIMIT) {
+            return ResponseEntity.badRequest().body("Invalid page parameters");
+        }
+        return ResponseEntity.ok(sellerInventoryService.getInventory(sellerId, status, page, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchArtworks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (q.isBlank() || page < 0 || size < 1 || size > HomeFeedService.MAX_LIMIT || (long) page * size > 10_000) {
+            return ResponseEntity.badRequest().body("Invalid search parameters");
         }
+        return ResponseEntity.ok(artworkSearchIndex.search(q, page, size));
+    }
+
+    // sizes are in centimetres; artworks measured in pixels have no physical size
+    @GetMapping("/browse")
+    public ResponseEntity<?> browseArtworks(
+            @RequestParam(required = false) Set<String> type,
+            @RequestParam(required = false) Set<String> subType,
+            @RequestParam(required = false) Set<String> sellingStatus,
+            @RequestParam(required = false) Set<String> copyAvailability,
+            @RequestParam(required = false) Set<String> priceBucket,
+            @RequestParam(required = false) Set<String> sizeBucket,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minWidth,
+            @RequestParam(required = false) Integer maxWidth,
+            @RequestParam(required = false) Integer minHeight,
+            @RequestParam(required = false) Integer maxHeight,
+            @RequestParam(required = false) Integer minLength,
+            @RequestParam(required = false) Integer maxLength,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > HomeFeedService.MAX_LIMIT || (long) page * size > 10_000) {
+            return ResponseEntity.badRequest().body("Invalid browse parameters");
+        }
+        ArtworkFacetIndex.Query query = new ArtworkFacetIndex.Query()
+                .select(ArtworkFacetIndex.Facet.TYPE, type)
+                .select(ArtworkFacetIndex.Facet.SUB_TYPE, subType)
+                .select(ArtworkFacetIndex.Facet.SELLING_STATUS, sellingStatus)
+                .select(ArtworkFacetIndex.Facet.COPY_AVAILABILITY, copyAvailability)
+                .select(ArtworkFacetIndex.Facet.PRICE, priceBucket)
+                .select(ArtworkFacetIndex.Facet.SIZE, sizeBucket)
+                .price(toCents(minPrice), toCents(maxPrice))
+                .size(0, toMillimetres(minWidth), toMillimetres(maxWidth))
+                .size(1, toMillimetres(minHeight), toMillimetres(maxHeight))
+                .size(2, toMillimetres(minLength), toMillimetres(maxLength));
+        return ResponseEntity.ok(artworkFacetIndex.browse(query, page, size));
+    }
 
-        // Convert to DTOs with image data
-        List<ArtworkHomeDTO> result = artworks.stream()
-                .map(artwork -> {
-                    ArtworkHomeDTO dto = new ArtworkHomeDTO();
-                    dto.setId(artwork.getId());
-                    dto.setArtworkName(artwork.getArtworkName());
-                    dto.setArtist(artwork.getArtist());
-                    dto.setType(artwork.getType());
-                    dto.setPrice(artwork.getPrice());
-                    dto.setSellingStatus(artwork.getSellingStatus());
-                    
-                    // Get first image if available
-                    if (!artwork.getImages().isEmpty()) {
-                        ArtWorkImage firstImage = artwork.getImages().get(0);
-                        dto.setImageId(firstImage.getId());
-                        dto.setImageContentType(firstImage.getContentType());
-                    }
-                    
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(result);
+    private static Long toCents(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).longValue() : null;
+    }
+
+    private static Long toMillimetres(Integer centimetres) {
+        return centimetres != null ? centimetres * 10L : null;
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<?> getArtworksBatch(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("Between 1 and " + maxBatchIds + " ids are allowed");
+        }
+        return ResponseEntity.ok(artworkDetailService.getDetails(new LinkedHashSet<>(ids)));
+    }
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<?> getArtworkDetail(@PathVariable Long id) {
+        return artworkDetailService.getDetail(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(404).body("Artwork not found"));
+    }
+
+    // NDJSON, one artwork per line
+    @GetMapping("/all")
+    public ResponseEntity<StreamingResponseBody> getAllArtworks() {
+        StreamingResponseBody body = artworkCatalogExporter::export;
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+
+    // Home screen feed, paged by an opaque (addedDate, id) cursor
+    @GetMapping("/home")
+    public ResponseEntity<?> getArtworksForHome(
+            @RequestParam(required = false) Long auctionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(homeFeedCache.getPage(auctionId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
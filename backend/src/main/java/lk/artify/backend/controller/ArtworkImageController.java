@@ -0,0 +1,94 @@
+package lk.artify.backend.controller;
+
+import lk.artify.backend.model.ArtWorkImage.Variant;
+import lk.artify.backend.service.ArtWorkImageService;
+import lk.artify.backend.service.ImageCache;
+import lk.artify.backend.service.StoredImage;
+import lk.artify.backend.util.Sendfile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/artworks/images")
+@CrossOrigin(origins = "*")
+public class ArtworkImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    @Autowired
+    private ArtWorkImageService artWorkImageService;
+
+    @Autowired
+    private ImageCache imageCache;
+
+    @GetMapping("/cache/stats")
+    public Map<String, Long> getCacheStats() {
+        return imageCache.stats();
+    }
+
+    // ?size=thumb|card|detail picks a derivative; the original is only meant for the detail screen
+    @GetMapping("/{id}")
+    public ResponseEntity<Resource> getImage(@PathVariable Long id,
+                                             @RequestParam(defaultValue = "original") String size,
+                                             ServletWebRequest webRequest) throws IOException {
+        Variant variant = null;
+        if (!"original".equalsIgnoreCase(size)) {
+            try {
+                variant = Variant.valueOf(size.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        Optional<StoredImage> found = artWorkImageService.loadImage(id, variant);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        StoredImage image = found.get();
+        if (webRequest.checkNotModified(image.getEtag())) {
+            return null;
+        }
+
+        MediaType contentType = image.getContentType() != null
+                ? MediaType.parseMediaType(image.getContentType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+
+        // whole-file reads from disk go out through sendfile; ranges and LOB-backed images are streamed by Spring
+        HttpServletRequest request = webRequest.getRequest();
+        if (request.getHeader(HttpHeaders.RANGE) == null && image.getResource().isFile() && Sendfile.isSupported(request)) {
+            HttpServletResponse response = webRequest.getResponse();
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(image.getSize());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(image).getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            Sendfile.send(request, image.getResource().getFile(), image.getSize());
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(image.getEtag())
+                .cacheControl(cacheControl(image))
+                .contentType(contentType)
+                .body(image.getResource());
+    }
+
+    // a fallback original must not be pinned under a derivative URL
+    private static CacheControl cacheControl(StoredImage image) {
+        return image.isImmutable() ? IMMUTABLE : REVALIDATE;
+    }
+}
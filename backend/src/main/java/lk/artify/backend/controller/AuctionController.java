@@ -0,0 +1,138 @@
+package lk.artify.backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lk.artify.backend.dto.BidResultDTO;
+import lk.artify.backend.repository.UserRepository;
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.service.AuctionStreamService;
+import lk.artify.backend.service.BidPersister;
+import lk.artify.backend.service.BidService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/auctions")
+@CrossOrigin(origins = "*")
+public class AuctionController {
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private AuctionStreamService auctionStreamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // only present when the in-memory engine is doing the bidding
+    @Autowired(required = false)
+    private BidPersister bidPersister;
+
+    @GetMapping("/persister/stats")
+    public ResponseEntity<?> getPersisterStats() {
+        if (bidPersister == null) {
+            return ResponseEntity.status(404).body("Bids are written directly by the database bid service");
+        }
+        return ResponseEntity.ok(bidPersister.stats());
+    }
+
+    // the compact snapshot a client resyncs from: high bid, bid count, end time and sequence number
+    @GetMapping({"/{id}/state", "/{id}/snapshot"})
+    public CompletableFuture<ResponseEntity<?>> getState(@PathVariable Long id) {
+        return bidService.state(id)
+                .<ResponseEntity<?>>thenApply(state -> state.isPresent()
+                        ? ResponseEntity.ok(state.get())
+                        : ResponseEntity.status(404).body("Auction not found"))
+                .exceptionally(e -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Bidding is unavailable"));
+    }
+
+    // what happened after the client's sequence number; complete=false means take a new snapshot
+    @GetMapping("/{id}/events")
+    public CompletableFuture<ResponseEntity<?>> getEvents(@PathVariable Long id, @RequestParam long after) {
+        if (after < 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Invalid sequence number"));
+        }
+        return bidService.events(id, after)
+                .<ResponseEntity<?>>thenApply(delta -> delta.isPresent()
+                        ? ResponseEntity.ok(delta.get())
+                        : ResponseEntity.status(404).body("Auction not found"))
+                .exceptionally(e -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Bidding is unavailable"));
+    }
+
+    // Server-sent events: a "state" frame, then "bid" frames for new highs and "countdown" frames every tick.
+    // The request goes async and AuctionStreamService writes frames from a WriteListener only while the
+    // socket can take them, so a slow client never holds a thread.
+    @GetMapping("/{id}/stream")
+    public void stream(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<AuctionStateDTO> state;
+        try {
+            state = bidService.state(id).get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        if (state.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (!auctionStreamService.subscribe(state.get(), request, response)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    @GetMapping("/stream/stats")
+    public Map<String, Object> getStreamStats() {
+        return auctionStreamService.stats();
+    }
+
+    @PostMapping("/{id}/bids")
+    public CompletableFuture<ResponseEntity<?>> placeBid(@PathVariable Long id,
+                                                         @RequestParam Long userId,
+                                                         @RequestParam BigDecimal amount) {
+        if (amount.signum() <= 0 || amount.stripTrailingZeros().scale() > 2) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Invalid bid amount"));
+        }
+        if (!userRepository.existsById(userId)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(404).body("User not found"));
+        }
+        return bidService.placeBid(id, userId, BidService.toCents(amount.setScale(2)))
+                .thenApply(this::toResponse)
+                .exceptionally(e -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Bidding is unavailable"));
+    }
+
+    // the engine bids for the user up to maxAmount; OUTBID means another maximum is higher
+    @PostMapping("/{id}/proxy-bids")
+    public CompletableFuture<ResponseEntity<?>> placeProxyBid(@PathVariable Long id,
+                                                              @RequestParam Long userId,
+                                                              @RequestParam BigDecimal maxAmount) {
+        if (maxAmount.signum() <= 0 || maxAmount.stripTrailingZeros().scale() > 2) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Invalid maximum bid"));
+        }
+        if (!userRepository.existsById(userId)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(404).body("User not found"));
+        }
+        return bidService.placeProxyBid(id, userId, BidService.toCents(maxAmount.setScale(2)))
+                .thenApply(this::toResponse)
+                .exceptionally(e -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Bidding is unavailable"));
+    }
+
+    private ResponseEntity<?> toResponse(BidResultDTO result) {
+        return switch (result.getOutcome()) {
+            case ACCEPTED -> ResponseEntity.ok(result);
+            case AUCTION_NOT_FOUND -> ResponseEntity.status(404).body("Auction not found");
+            case UNAVAILABLE -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+            default -> ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        };
+    }
+}
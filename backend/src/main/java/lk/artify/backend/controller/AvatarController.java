@@ -0,0 +1,64 @@
+package lk.artify.backend.controller;
+
+import lk.artify.backend.service.AvatarService;
+import lk.artify.backend.util.Sendfile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/uploads/avatars")
+@CrossOrigin(origins = "*")
+public class AvatarController {
+
+    // file names are content hashes, so a URL's bytes never change
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    @Autowired
+    private AvatarService avatarService;
+
+    @GetMapping("/{fileName:.+}")
+    public ResponseEntity<Resource> getAvatar(@PathVariable String fileName, ServletWebRequest webRequest) throws IOException {
+        Optional<Path> found = avatarService.resolve(fileName);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Path path = found.get();
+        String etag = "\"" + fileName.substring(0, fileName.length() - ".jpg".length()) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        HttpServletRequest request = webRequest.getRequest();
+        if (request.getHeader(HttpHeaders.RANGE) == null && Sendfile.isSupported(request)) {
+            long length = Files.size(path);
+            HttpServletResponse response = webRequest.getResponse();
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(length);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE.getHeaderValue());
+            Sendfile.send(request, path.toFile(), length);
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(new FileSystemResource(path));
+    }
+}
@@ -1,35 +1,45 @@
 package lk.artify.backend.controller;
 
+import lk.artify.backend.dto.SellerProfileDTO;
 import lk.artify.backend.model.Seller;
 import lk.artify.backend.model.User;
 import lk.artify.backend.repository.SellerRepository;
 import lk.artify.backend.repository.UserRepository;
+import lk.artify.backend.service.AvatarService;
+import lk.artify.backend.service.SellerProfileService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.*;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/sellers")
 @CrossOrigin(origins = "*")
 public class SellerController {
 
-    private static final String UPLOAD_DIR = "uploads/";
-
     @Autowired
     private SellerRepository sellerRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AvatarService avatarService;
+
+    @Autowired
+    private SellerProfileService sellerProfileService;
+
+    @Value("${artify.batch.max-ids:100}")
+    private int maxBatchIds;
+
     @PostMapping("/register")
     public ResponseEntity<?> registerSeller(
             @RequestParam Long userId,
@@ -68,12 +78,7 @@ public class SellerController {
             seller.setTotalIncome(0.0);
 
             if (profilePicture != null && !profilePicture.isEmpty()) {
-                String filename = UUID.randomUUID() + "_" + StringUtils.cleanPath(profilePicture.getOriginalFilename());
-                Path uploadPath = Paths.get(UPLOAD_DIR);
-                Files.createDirectories(uploadPath);
-                Path filePath = uploadPath.resolve(filename);
-                Files.copy(profilePicture.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-                seller.setProfile_pic("/uploads/" + filename);
+                seller.setProfile_pic(avatarService.storeAvatar(profilePicture));
             }
 
             Seller savedSeller = sellerRepository.save(seller); 
@@ -90,18 +95,26 @@ public class SellerController {
         }
     }
     
+    @GetMapping("/batch")
+    public ResponseEntity<?> getSellersBatch(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("Between 1 and " + maxBatchIds + " ids are allowed");
+        }
+        return ResponseEntity.ok(sellerProfileService.getSummaries(new LinkedHashSet<>(ids)));
+    }
+
     @GetMapping("/{sellerId}")
-    public ResponseEntity<Seller> getSellerById(@PathVariable Long sellerId) {
-        Optional<Seller> seller = sellerRepository.findById(sellerId);
-        return seller.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<SellerProfileDTO> getSellerById(@PathVariable Long sellerId) {
+        return sellerProfileService.getProfile(sellerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/byUser/{userId}")
     public ResponseEntity<?> getSellerByUserId(@PathVariable Long userId) {
-        Seller seller = sellerRepository.findByUserId(userId);
-        if (seller != null) {
-            return ResponseEntity.ok(seller);
+        Optional<SellerProfileDTO> seller = sellerProfileService.getProfileByUserId(userId);
+        if (seller.isPresent()) {
+            return ResponseEntity.ok(seller.get());
         } else {
             return ResponseEntity.status(404).body("Seller not found for user ID: " + userId);
         }
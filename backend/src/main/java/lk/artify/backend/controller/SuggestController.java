@@ -0,0 +1,24 @@
+package lk.artify.backend.controller;
+
+import lk.artify.backend.service.SuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/suggest")
+@CrossOrigin(origins = "*")
+public class SuggestController {
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @GetMapping
+    public ResponseEntity<?> suggest(@RequestParam String q,
+                                     @RequestParam(defaultValue = "8") int limit) {
+        if (q.isBlank() || limit < 1) {
+            return ResponseEntity.badRequest().body("Invalid suggest parameters");
+        }
+        return ResponseEntity.ok(suggestService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,42 @@
+package lk.artify.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ArtworkBrowsePageDTO {
+    private List<ArtworkHomeDTO> items;
+    private int total;
+    private int page;
+    private int size;
+    // facet name -> value -> number of matching artworks
+    private Map<String, Map<String, Integer>> facets;
+
+    public ArtworkBrowsePageDTO(List<ArtworkHomeDTO> items, int total, int page, int size,
+                                Map<String, Map<String, Integer>> facets) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.facets = facets;
+    }
+
+    public List<ArtworkHomeDTO> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
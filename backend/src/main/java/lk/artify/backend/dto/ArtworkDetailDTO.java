@@ -0,0 +1,256 @@
+package lk.artify.backend.dto;
+
+import lk.artify.backend.model.ArtWork.ArtCopyType;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ArtworkDetailDTO {
+    private Long id;
+    private String artworkName;
+    private String type;
+    private String subType;
+    private String artist;
+    private String description;
+    private BigDecimal price;
+    private BigDecimal priceOfCopy;
+    private String unit;
+    private Integer widthOfArt;
+    private Integer heightOfArt;
+    private Integer lengthOfArt;
+    private boolean availability;
+    private Integer availablecopies;
+    private LocalDate addedDate;
+    private boolean copyAvailability;
+    private ArtCopyType artCopyType;
+    private Integer noOfCopies;
+    private Integer minimumQuantityPerBuyer;
+    private SellingStatus sellingStatus;
+    private BigDecimal minimumBid;
+    private BigDecimal currentBid;
+    private Long auctionId;
+    private String auctionName;
+    private LocalDateTime auctionEndDateTime;
+    private List<String> images;
+    private SellerSummaryDTO seller;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getArtworkName() {
+        return artworkName;
+    }
+
+    public void setArtworkName(String artworkName) {
+        this.artworkName = artworkName;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getSubType() {
+        return subType;
+    }
+
+    public void setSubType(String subType) {
+        this.subType = subType;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public void setArtist(String artist) {
+        this.artist = artist;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getPriceOfCopy() {
+        return priceOfCopy;
+    }
+
+    public void setPriceOfCopy(BigDecimal priceOfCopy) {
+        this.priceOfCopy = priceOfCopy;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public Integer getWidthOfArt() {
+        return widthOfArt;
+    }
+
+    public void setWidthOfArt(Integer widthOfArt) {
+        this.widthOfArt = widthOfArt;
+    }
+
+    public Integer getHeightOfArt() {
+        return heightOfArt;
+    }
+
+    public void setHeightOfArt(Integer heightOfArt) {
+        this.heightOfArt = heightOfArt;
+    }
+
+    public Integer getLengthOfArt() {
+        return lengthOfArt;
+    }
+
+    public void setLengthOfArt(Integer lengthOfArt) {
+        this.lengthOfArt = lengthOfArt;
+    }
+
+    public boolean isAvailability() {
+        return availability;
+    }
+
+    public void setAvailability(boolean availability) {
+        this.availability = availability;
+    }
+
+    public Integer getAvailablecopies() {
+        return availablecopies;
+    }
+
+    public void setAvailablecopies(Integer availablecopies) {
+        this.availablecopies = availablecopies;
+    }
+
+    public LocalDate getAddedDate() {
+        return addedDate;
+    }
+
+    public void setAddedDate(LocalDate addedDate) {
+        this.addedDate = addedDate;
+    }
+
+    public boolean isCopyAvailability() {
+        return copyAvailability;
+    }
+
+    public void setCopyAvailability(boolean copyAvailability) {
+        this.copyAvailability = copyAvailability;
+    }
+
+    public ArtCopyType getArtCopyType() {
+        return artCopyType;
+    }
+
+    public void setArtCopyType(ArtCopyType artCopyType) {
+        this.artCopyType = artCopyType;
+    }
+
+    public Integer getNoOfCopies() {
+        return noOfCopies;
+    }
+
+    public void setNoOfCopies(Integer noOfCopies) {
+        this.noOfCopies = noOfCopies;
+    }
+
+    public Integer getMinimumQuantityPerBuyer() {
+        return minimumQuantityPerBuyer;
+    }
+
+    public void setMinimumQuantityPerBuyer(Integer minimumQuantityPerBuyer) {
+        this.minimumQuantityPerBuyer = minimumQuantityPerBuyer;
+    }
+
+    public SellingStatus getSellingStatus() {
+        return sellingStatus;
+    }
+
+    public void setSellingStatus(SellingStatus sellingStatus) {
+        this.sellingStatus = sellingStatus;
+    }
+
+    public BigDecimal getMinimumBid() {
+        return minimumBid;
+    }
+
+    public void setMinimumBid(BigDecimal minimumBid) {
+        this.minimumBid = minimumBid;
+    }
+
+    public BigDecimal getCurrentBid() {
+        return currentBid;
+    }
+
+    public void setCurrentBid(BigDecimal currentBid) {
+        this.currentBid = currentBid;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    public void setAuctionId(Long auctionId) {
+        this.auctionId = auctionId;
+    }
+
+    public String getAuctionName() {
+        return auctionName;
+    }
+
+    public void setAuctionName(String auctionName) {
+        this.auctionName = auctionName;
+    }
+
+    public LocalDateTime getAuctionEndDateTime() {
+        return auctionEndDateTime;
+    }
+
+    public void setAuctionEndDateTime(LocalDateTime auctionEndDateTime) {
+        this.auctionEndDateTime = auctionEndDateTime;
+    }
+
+    // image URLs in display order, detail-sized
+    public List<String> getImages() {
+        return images;
+    }
+
+    public void setImages(List<String> images) {
+        this.images = images;
+    }
+
+    public SellerSummaryDTO getSeller() {
+        return seller;
+    }
+
+    public void setSeller(SellerSummaryDTO seller) {
+        this.seller = seller;
+    }
+}
@@ -0,0 +1,44 @@
+package lk.artify.backend.dto;
+
+import lk.artify.backend.model.ArtWork.ArtCopyType;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One row per image of an artwork, joined with its seller and auction; see ArtWorkRepository.findDetailRows.
+public interface ArtworkDetailRow {
+    Long getId();
+    String getArtworkName();
+    String getType();
+    String getSubType();
+    String getArtist();
+    String getDescription();
+    BigDecimal getPrice();
+    BigDecimal getPriceOfCopy();
+    String getUnit();
+    Integer getWidthOfArt();
+    Integer getHeightOfArt();
+    Integer getLengthOfArt();
+    Boolean getAvailability();
+    Integer getAvailablecopies();
+    LocalDate getAddedDate();
+    Boolean getCopyAvailability();
+    ArtCopyType getArtCopyType();
+    Integer getNoOfCopies();
+    Integer getMinimumQuantityPerBuyer();
+    SellingStatus getSellingStatus();
+    BigDecimal getMinimumBid();
+    BigDecimal getCurrentBid();
+    Long getSellerId();
+    String getSellerName();
+    String getSellerAvatar();
+    Boolean getSellerVerified();
+    String getSellerLocation();
+    Integer getSellerRate();
+    Long getAuctionId();
+    String getAuctionName();
+    LocalDateTime getAuctionEndDateTime();
+    Long getImageId();
+}
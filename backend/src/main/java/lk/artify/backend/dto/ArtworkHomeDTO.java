@@ -2,6 +2,7 @@ package lk.artify.backend.dto;
 
 import lk.artify.backend.model.ArtWork.SellingStatus;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 public class ArtworkHomeDTO {
     private Long id;
@@ -12,6 +13,28 @@ public class ArtworkHomeDTO {
     private SellingStatus sellingStatus;
     private Long imageId;
     private String imageContentType;
+    private String imageUrl;
+    private LocalDate addedDate;
+
+    public ArtworkHomeDTO() {
+    }
+
+    // used by JPQL constructor projections
+    public ArtworkHomeDTO(Long id, String artworkName, String artist, String type, BigDecimal price,
+                          SellingStatus sellingStatus, LocalDate addedDate, Long imageId, String imageContentType) {
+        this.id = id;
+        this.artworkName = artworkName;
+        this.artist = artist;
+        this.type = type;
+        this.price = price;
+        this.sellingStatus = sellingStatus;
+        this.addedDate = addedDate;
+        this.imageId = imageId;
+        this.imageContentType = imageContentType;
+        if (imageId != null) {
+            this.imageUrl = "/api/artworks/images/" + imageId + "?size=card";
+        }
+    }
 
     // Getters and Setters
     public Long getId() {
@@ -77,4 +100,20 @@ public class ArtworkHomeDTO {
     public void setImageContentType(String imageContentType) {
         this.imageContentType = imageContentType;
     }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public LocalDate getAddedDate() {
+        return addedDate;
+    }
+
+    public void setAddedDate(LocalDate addedDate) {
+        this.addedDate = addedDate;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package lk.artify.backend.dto;
+
+// Image metadata only; never touches the stored bytes.
+public interface ArtworkImageInfo {
+    Long getId();
+    Long getArtworkId();
+    String getContentType();
+    Long getSize();
+    String getContentHash();
+    Integer getPosition();
+}
@@ -0,0 +1,33 @@
+package lk.artify.backend.dto;
+
+import java.util.List;
+
+public class ArtworkSearchPageDTO {
+    private List<ArtworkHomeDTO> items;
+    private int total;
+    private int page;
+    private int size;
+
+    public ArtworkSearchPageDTO(List<ArtworkHomeDTO> items, int total, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<ArtworkHomeDTO> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,42 @@
+package lk.artify.backend.dto;
+
+import java.util.List;
+
+public class AuctionDeltaDTO {
+
+    private final Long auctionId;
+    private final long afterSequence;
+    private final long sequence;
+    // false when the events after afterSequence are no longer held; the client should take a fresh snapshot
+    private final boolean complete;
+    private final List<AuctionEventDTO> events;
+
+    public AuctionDeltaDTO(Long auctionId, long afterSequence, long sequence, boolean complete,
+                           List<AuctionEventDTO> events) {
+        this.auctionId = auctionId;
+        this.afterSequence = afterSequence;
+        this.sequence = sequence;
+        this.complete = complete;
+        this.events = events;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    public long getAfterSequence() {
+        return afterSequence;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public List<AuctionEventDTO> getEvents() {
+        return events;
+    }
+}
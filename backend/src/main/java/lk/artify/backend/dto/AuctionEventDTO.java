@@ -0,0 +1,47 @@
+package lk.artify.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AuctionEventDTO {
+
+    public enum Type {
+        BID,
+        CLOSED
+    }
+
+    private final long sequence;
+    private final Type type;
+    // the high bid and its bidder once this event applied
+    private final BigDecimal amount;
+    private final Long leaderUserId;
+    private final LocalDateTime time;
+
+    public AuctionEventDTO(long sequence, Type type, BigDecimal amount, Long leaderUserId, LocalDateTime time) {
+        this.sequence = sequence;
+        this.type = type;
+        this.amount = amount;
+        this.leaderUserId = leaderUserId;
+        this.time = time;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public Long getLeaderUserId() {
+        return leaderUserId;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+}
@@ -0,0 +1,63 @@
+package lk.artify.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AuctionStateDTO {
+
+    private final Long auctionId;
+    // null until the first bid
+    private final BigDecimal currentBid;
+    private final BigDecimal minimumNextBid;
+    private final Long leaderUserId;
+    private final long bidCount;
+    private final LocalDateTime endDateTime;
+    private final boolean closed;
+    // counts every bid and the close; a client holding this can ask for just the events after it
+    private final long sequence;
+
+    public AuctionStateDTO(Long auctionId, BigDecimal currentBid, BigDecimal minimumNextBid,
+                           Long leaderUserId, long bidCount, LocalDateTime endDateTime,
+                           boolean closed, long sequence) {
+        this.auctionId = auctionId;
+        this.currentBid = currentBid;
+        this.minimumNextBid = minimumNextBid;
+        this.leaderUserId = leaderUserId;
+        this.bidCount = bidCount;
+        this.endDateTime = endDateTime;
+        this.closed = closed;
+        this.sequence = sequence;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    public BigDecimal getCurrentBid() {
+        return currentBid;
+    }
+
+    public BigDecimal getMinimumNextBid() {
+        return minimumNextBid;
+    }
+
+    public Long getLeaderUserId() {
+        return leaderUserId;
+    }
+
+    public long getBidCount() {
+        return bidCount;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,37 @@
+package lk.artify.backend.dto;
+
+public class BidResultDTO {
+
+    public enum Outcome {
+        ACCEPTED,
+        AUCTION_NOT_FOUND,
+        NOT_STARTED,
+        ENDED,
+        OWN_AUCTION,
+        TOO_LOW,
+        // high enough, but another bidder's maximum answered it and still leads
+        OUTBID,
+        UNAVAILABLE
+    }
+
+    private final Outcome outcome;
+    // auction state after the bid was applied or rejected; null when the auction is unknown or the engine is down
+    private final AuctionStateDTO auction;
+
+    public BidResultDTO(Outcome outcome, AuctionStateDTO auction) {
+        this.outcome = outcome;
+        this.auction = auction;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+
+    public AuctionStateDTO getAuction() {
+        return auction;
+    }
+}
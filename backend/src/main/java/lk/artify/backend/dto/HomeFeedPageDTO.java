@@ -0,0 +1,22 @@
+package lk.artify.backend.dto;
+
+import java.util.List;
+
+public class HomeFeedPageDTO {
+    private List<ArtworkHomeDTO> items;
+    private String nextCursor;
+
+    public HomeFeedPageDTO(List<ArtworkHomeDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ArtworkHomeDTO> getItems() {
+        return items;
+    }
+
+    // null on the last page
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
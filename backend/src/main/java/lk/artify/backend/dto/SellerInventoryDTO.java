@@ -0,0 +1,43 @@
+package lk.artify.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SellerInventoryDTO {
+    private List<ArtworkBasicInfoDTO> items;
+    private int page;
+    private int size;
+    // artworks matching the requested status (all artworks when none was given)
+    private long total;
+    // every SellingStatus, zero when the seller has none
+    private Map<String, Long> statusCounts;
+
+    public SellerInventoryDTO(List<ArtworkBasicInfoDTO> items, int page, int size, long total,
+                              Map<String, Long> statusCounts) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.statusCounts = statusCounts;
+    }
+
+    public List<ArtworkBasicInfoDTO> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+}
@@ -0,0 +1,102 @@
+package lk.artify.backend.dto;
+
+// Public seller profile; owner identity details and entity relations are left out.
+public class SellerProfileDTO {
+    private Long sellerId;
+    private Long userId;
+    private String type;
+    private String businessName;
+    private String businessEmail;
+    private String businessPhone;
+    private String location;
+    private int rate;
+    private boolean verified;
+    private String profile_pic;
+    private double totalIncome;
+    private double totalwithdrawal;
+    private double pendingwithdrawal;
+    private long artworkCount;
+    private long followerCount;
+
+    // used by JPQL constructor projections
+    public SellerProfileDTO(Long sellerId, Long userId, String type, String businessName, String businessEmail,
+                            String businessPhone, String location, int rate, boolean verified, String profile_pic,
+                            double totalIncome, double totalwithdrawal, double pendingwithdrawal,
+                            long artworkCount, long followerCount) {
+        this.sellerId = sellerId;
+        this.userId = userId;
+        this.type = type;
+        this.businessName = businessName;
+        this.businessEmail = businessEmail;
+        this.businessPhone = businessPhone;
+        this.location = location;
+        this.rate = rate;
+        this.verified = verified;
+        this.profile_pic = profile_pic;
+        this.totalIncome = totalIncome;
+        this.totalwithdrawal = totalwithdrawal;
+        this.pendingwithdrawal = pendingwithdrawal;
+        this.artworkCount = artworkCount;
+        this.followerCount = followerCount;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getBusinessName() {
+        return businessName;
+    }
+
+    public String getBusinessEmail() {
+        return businessEmail;
+    }
+
+    public String getBusinessPhone() {
+        return businessPhone;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public String getProfile_pic() {
+        return profile_pic;
+    }
+
+    public double getTotalIncome() {
+        return totalIncome;
+    }
+
+    public double getTotalwithdrawal() {
+        return totalwithdrawal;
+    }
+
+    public double getPendingwithdrawal() {
+        return pendingwithdrawal;
+    }
+
+    public long getArtworkCount() {
+        return artworkCount;
+    }
+
+    public long getFollowerCount() {
+        return followerCount;
+    }
+}
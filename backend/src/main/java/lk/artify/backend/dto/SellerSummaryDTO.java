@@ -0,0 +1,44 @@
+package lk.artify.backend.dto;
+
+public class SellerSummaryDTO {
+    private Long sellerId;
+    private String sellerName;
+    private String avatar;
+    private boolean verified;
+    private String location;
+    private int rate;
+
+    public SellerSummaryDTO(Long sellerId, String sellerName, String avatar, boolean verified,
+                            String location, int rate) {
+        this.sellerId = sellerId;
+        this.sellerName = sellerName;
+        this.avatar = avatar;
+        this.verified = verified;
+        this.location = location;
+        this.rate = rate;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public String getSellerName() {
+        return sellerName;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,22 @@
+package lk.artify.backend.dto;
+
+import lk.artify.backend.model.ArtWork.SellingStatus;
+
+public class StatusCountDTO {
+    private SellingStatus status;
+    private long count;
+
+    // used by JPQL constructor projections
+    public StatusCountDTO(SellingStatus status, Long count) {
+        this.status = status;
+        this.count = count != null ? count : 0;
+    }
+
+    public SellingStatus getStatus() {
+        return status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
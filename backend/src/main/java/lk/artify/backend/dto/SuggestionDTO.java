@@ -0,0 +1,33 @@
+package lk.artify.backend.dto;
+
+public class SuggestionDTO {
+
+    public enum Kind {
+        ARTWORK,
+        ARTIST,
+        SELLER
+    }
+
+    private final String text;
+    private final Kind kind;
+    // artwork id for ARTWORK, seller id for SELLER, null for ARTIST
+    private final Long id;
+
+    public SuggestionDTO(String text, Kind kind, Long id) {
+        this.text = text;
+        this.kind = kind;
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,24 @@
+package lk.artify.backend.event;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lk.artify.backend.model.ArtWorkImage;
+import lk.artify.backend.service.ImageCache;
+import org.springframework.stereotype.Component;
+
+// Hibernate resolves this through Spring, so the cache is injected.
+@Component
+public class ArtWorkImageListener {
+
+    private final ImageCache imageCache;
+
+    public ArtWorkImageListener(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(ArtWorkImage image) {
+        imageCache.invalidate(image.getId());
+    }
+}
@@ -0,0 +1,55 @@
+package lk.artify.backend.event;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lk.artify.backend.event.ArtworkChangedEvent.ChangeType;
+import lk.artify.backend.model.ArtWork;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Compares against the state captured when the entity was loaded so only real feed changes are flagged.
+@Component
+public class ArtWorkListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public ArtWorkListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostLoad
+    public void snapshot(ArtWork artWork) {
+        artWork.captureLoadedState();
+    }
+
+    @PostPersist
+    public void created(ArtWork artWork) {
+        publisher.publishEvent(new ArtworkChangedEvent(artWork.getId(), sellerId(artWork), ChangeType.CREATED,
+                null, auctionId(artWork), true));
+        artWork.captureLoadedState();
+    }
+
+    @PostUpdate
+    public void updated(ArtWork artWork) {
+        boolean feedChanged = !artWork.feedState().equals(artWork.getLoadedFeedState());
+        publisher.publishEvent(new ArtworkChangedEvent(artWork.getId(), sellerId(artWork), ChangeType.UPDATED,
+                artWork.getLoadedAuctionId(), auctionId(artWork), feedChanged));
+        artWork.captureLoadedState();
+    }
+
+    @PostRemove
+    public void removed(ArtWork artWork) {
+        publisher.publishEvent(new ArtworkChangedEvent(artWork.getId(), sellerId(artWork), ChangeType.DELETED,
+                artWork.getLoadedAuctionId(), null, true));
+    }
+
+    private static Long sellerId(ArtWork artWork) {
+        return artWork.getSeller() != null ? artWork.getSeller().getSellerId() : null;
+    }
+
+    private static Long auctionId(ArtWork artWork) {
+        return artWork.getAuction() != null ? artWork.getAuction().getId() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package lk.artify.backend.event;
+
+/**
+ * Published whenever an ArtWork row is inserted, updated or deleted. Listeners
+ * normally handle it after commit.
+ */
+public class ArtworkChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long artworkId;
+    private final Long sellerId;
+    private final ChangeType changeType;
+    private final Long previousAuctionId;
+    private final Long auctionId;
+    private final boolean feedChanged;
+
+    public ArtworkChangedEvent(Long artworkId, Long sellerId, ChangeType changeType,
+                               Long previousAuctionId, Long auctionId, boolean feedChanged) {
+        this.artworkId = artworkId;
+        this.sellerId = sellerId;
+        this.changeType = changeType;
+        this.previousAuctionId = previousAuctionId;
+        this.auctionId = auctionId;
+        this.feedChanged = feedChanged;
+    }
+
+    public Long getArtworkId() {
+        return artworkId;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getPreviousAuctionId() {
+        return previousAuctionId;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    // true when something a feed shows changed: creation, approval, selling status, auction membership or card fields
+    public boolean isFeedChanged() {
+        return feedChanged;
+    }
+}
@@ -0,0 +1,25 @@
+package lk.artify.backend.event;
+
+import lk.artify.backend.dto.AuctionStateDTO;
+
+/**
+ * Published once an accepted bid is durable: by the bidding engine after its
+ * write-ahead log sync, on the auction's shard thread, or by
+ * DatabaseBidService after commit. Listeners must hand off anything slow.
+ */
+public class AuctionBidEvent {
+
+    private final AuctionStateDTO state;
+
+    public AuctionBidEvent(AuctionStateDTO state) {
+        this.state = state;
+    }
+
+    public Long getAuctionId() {
+        return state.getAuctionId();
+    }
+
+    public AuctionStateDTO getState() {
+        return state;
+    }
+}
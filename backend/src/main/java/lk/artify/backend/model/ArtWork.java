@@ -1,12 +1,18 @@
 package lk.artify.backend.model;
 
 import jakarta.persistence.*;
+import lk.artify.backend.event.ArtWorkListener;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_artwork_feed", columnList = "auction_id, added_date, id"),
+        @Index(name = "idx_artwork_seller_status", columnList = "seller_id, selling_status, id")
+})
+@EntityListeners(ArtWorkListener.class)
 public class ArtWork {
 
     @Id
@@ -40,9 +46,19 @@ public class ArtWork {
 
     private Integer availablecopies; 
 
+    private boolean copyAvailability;
+
+    @Enumerated(EnumType.STRING)
+    private ArtCopyType artCopyType;
+
+    private Integer noOfCopies;
+
+    private Integer minimumQuantityPerBuyer;
+
     private boolean approved;
     
     @OneToMany(mappedBy = "artWork", cascade = CascadeType.ALL)
+    @OrderBy("position ASC, id ASC")
     private List<ArtWorkImage> images = new ArrayList<>();
 
 
@@ -62,6 +78,15 @@ public class ArtWork {
 
     @Column(precision = 10, scale = 2)
     private BigDecimal currentBid;
+
+    // optimistic lock; the bid writers raise current_bid in SQL and increment it there too
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // state as last loaded or flushed, for ArtWorkListener
+    @Transient
+    private FeedState loadedFeedState;
     
 
     
@@ -71,6 +96,11 @@ public class ArtWork {
     	SOLD_OUT,
     	PENDING_AUCTION
     }
+
+    public enum ArtCopyType{
+    	COPY_OF_ART,
+    	VIRTUAL_COPY
+    }
     
 
 
@@ -261,9 +291,75 @@ public class ArtWork {
 	    this.minimumBid = minimumBid;
 	}
 
-	public void setAvailablecopies(Integer minimumQuantityPerBuyer) {
+	public void setAvailablecopies(Integer availablecopies) {
 		this.availablecopies = availablecopies;
 		
 	}
 
+	public boolean isCopyAvailability() {
+		return copyAvailability;
+	}
+
+	public void setCopyAvailability(boolean copyAvailability) {
+		this.copyAvailability = copyAvailability;
+	}
+
+	public ArtCopyType getArtCopyType() {
+		return artCopyType;
+	}
+
+	public void setArtCopyType(ArtCopyType artCopyType) {
+		this.artCopyType = artCopyType;
+	}
+
+	public Integer getNoOfCopies() {
+		return noOfCopies;
+	}
+
+	public void setNoOfCopies(Integer noOfCopies) {
+		this.noOfCopies = noOfCopies;
+	}
+
+	public Integer getMinimumQuantityPerBuyer() {
+		return minimumQuantityPerBuyer;
+	}
+
+	public void setMinimumQuantityPerBuyer(Integer minimumQuantityPerBuyer) {
+		this.minimumQuantityPerBuyer = minimumQuantityPerBuyer;
+	}
+
+	// the home feed pages by (addedDate, id) and skips undated rows
+	@PrePersist
+	public void prePersist() {
+		if (this.addedDate == null) {
+			this.addedDate = LocalDate.now();
+		}
+	}
+
+	public FeedState getLoadedFeedState() {
+		return loadedFeedState;
+	}
+
+	public Long getLoadedAuctionId() {
+		return loadedFeedState != null ? loadedFeedState.auctionId() : null;
+	}
+
+	public void captureLoadedState() {
+		this.loadedFeedState = feedState();
+	}
+
+	public FeedState feedState() {
+		return new FeedState(approved, sellingStatus, auction != null ? auction.getId() : null,
+				artworkName, artist, type, price);
+	}
+
+	// everything a feed card or feed membership depends on, compared field by field
+	public record FeedState(boolean approved, SellingStatus sellingStatus, Long auctionId,
+							String artworkName, String artist, String type, BigDecimal price) {
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
 }
@@ -1,8 +1,14 @@
 package lk.artify.backend.model;
 
 import jakarta.persistence.*;
+import lk.artify.backend.event.ArtWorkImageListener;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_artwork_image_hash", columnList = "content_hash"),
+    @Index(name = "idx_artwork_image_position", columnList = "artwork_id, position")
+})
+@EntityListeners(ArtWorkImageListener.class)
 public class ArtWorkImage {
 
     @Id
@@ -11,13 +17,50 @@ public class ArtWorkImage {
 
     private String fileName;    
     private String contentType; 
-    @Lob
-    private byte[] data;
+
+    // bytes live in the BlobStore under this SHA-256
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private Long size;
+
+    // order of the image within its artwork, 0 = cover
+    private Integer position;
+
+    // resized JPEG derivatives, filled in by the background pipeline
+    @Column(length = 64)
+    private String thumbHash;
+
+    @Column(length = 64)
+    private String cardHash;
+
+    @Column(length = 64)
+    private String detailHash;
+
+    // set when the original could not be decoded, so the sweep stops retrying it
+    @Column(name = "derivatives_failed")
+    private Boolean derivativesFailed;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "artwork_id")
     private ArtWork artWork;
 
+    public enum Variant {
+        THUMB(200),
+        CARD(600),
+        DETAIL(1200);
+
+        private final int maxEdge;
+
+        Variant(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        public int getMaxEdge() {
+            return maxEdge;
+        }
+    }
+
     public String getFileName() {
         return fileName;
     }
@@ -30,11 +73,23 @@ public class ArtWorkImage {
     public void setContentType(String contentType) {
         this.contentType = contentType;
     }
-    public byte[] getData() {
-        return data;
+    public String getContentHash() {
+        return contentHash;
+    }
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
     }
-    public void setData(byte[] data) {
-        this.data = data;
+    public Long getSize() {
+        return size;
+    }
+    public void setSize(Long size) {
+        this.size = size;
+    }
+    public Integer getPosition() {
+        return position;
+    }
+    public void setPosition(Integer position) {
+        this.position = position;
     }
 	public Long getId() {
 		return id;
@@ -49,4 +104,36 @@ public class ArtWorkImage {
 		this.artWork = artWork;
 	}
     
+	public String getThumbHash() {
+		return thumbHash;
+	}
+	public void setThumbHash(String thumbHash) {
+		this.thumbHash = thumbHash;
+	}
+	public String getCardHash() {
+		return cardHash;
+	}
+	public void setCardHash(String cardHash) {
+		this.cardHash = cardHash;
+	}
+	public String getDetailHash() {
+		return detailHash;
+	}
+	public void setDetailHash(String detailHash) {
+		this.detailHash = detailHash;
+	}
+	public Boolean getDerivativesFailed() {
+		return derivativesFailed;
+	}
+	public void setDerivativesFailed(Boolean derivativesFailed) {
+		this.derivativesFailed = derivativesFailed;
+	}
+	public String getVariantHash(Variant variant) {
+		switch (variant) {
+			case THUMB: return thumbHash;
+			case CARD: return cardHash;
+			default: return detailHash;
+		}
+	}
+    
 }
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_auction_open", columnList = "closed, end_date_time"))
 public class Auction {
 
     @Id
@@ -26,6 +27,22 @@ public class Auction {
     @OneToMany(mappedBy = "auction", cascade = CascadeType.ALL)
     private List<Bid> bids;
 
+    // set once the auction has been settled; closed auctions take no bids
+    @Column(nullable = false)
+    private boolean closed;
+
+    // maintained by the SQL that places and persists bids, never written from the entity
+    @Column(nullable = false, updatable = false)
+    private long bidCount;
+
+    @Column(updatable = false)
+    private Long leaderUserId;
+
+    // optimistic lock, also incremented by the SQL that places and persists bids
+    @Version
+    @Column(nullable = false)
+    private long version;
+
 	public Long getId() {
 		return id;
 	}
@@ -98,6 +115,26 @@ public class Auction {
 		this.auctionName = auctionName;
 	}
 
+	public boolean isClosed() {
+		return closed;
+	}
+
+	public void setClosed(boolean closed) {
+		this.closed = closed;
+	}
+
+	public long getBidCount() {
+		return bidCount;
+	}
+
+	public Long getLeaderUserId() {
+		return leaderUserId;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
     
 }
 
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_bid_wal", columnNames = {"wal_shard", "wal_sequence"}),
+        indexes = @Index(name = "idx_bid_auction_amount", columnList = "auction_id, bid_amount"))
 public class Bid {
 
     @Id
@@ -21,6 +23,13 @@ public class Bid {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // position in the bidding engine's write-ahead log, so a replay after a crash skips rows already written
+    @Column(name = "wal_shard")
+    private Integer walShard;
+
+    @Column(name = "wal_sequence")
+    private Long walSequence;
+
 	public Long getId() {
 		return id;
 	}
@@ -60,4 +69,20 @@ public class Bid {
 	public void setUser(User user) {
 		this.user = user;
 	}
+
+	public Integer getWalShard() {
+		return walShard;
+	}
+
+	public void setWalShard(Integer walShard) {
+		this.walShard = walShard;
+	}
+
+	public Long getWalSequence() {
+		return walSequence;
+	}
+
+	public void setWalSequence(Long walSequence) {
+		this.walSequence = walSequence;
+	}
 }
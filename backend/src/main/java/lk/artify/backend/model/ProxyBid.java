@@ -0,0 +1,89 @@
+package lk.artify.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// a user's standing maximum on an auction; the engine bids on their behalf up to it
+@Entity
+@Table(name = "proxy_bid", uniqueConstraints = @UniqueConstraint(name = "uk_proxy_bid_user", columnNames = {"auction_id", "user_id"}),
+        indexes = @Index(name = "idx_proxy_bid_wal", columnList = "wal_shard, wal_sequence"))
+public class ProxyBid {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Double maxAmount;
+    private LocalDateTime updatedAt;
+
+    @ManyToOne
+    @JoinColumn(name = "auction_id")
+    private Auction auction;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // write-ahead log position of the latest raise, for the persister's watermark
+    @Column(name = "wal_shard")
+    private Integer walShard;
+
+    @Column(name = "wal_sequence")
+    private Long walSequence;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Double getMaxAmount() {
+		return maxAmount;
+	}
+
+	public void setMaxAmount(Double maxAmount) {
+		this.maxAmount = maxAmount;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public Auction getAuction() {
+		return auction;
+	}
+
+	public void setAuction(Auction auction) {
+		this.auction = auction;
+	}
+
+	public User getUser() {
+		return user;
+	}
+
+	public void setUser(User user) {
+		this.user = user;
+	}
+
+	public Integer getWalShard() {
+		return walShard;
+	}
+
+	public void setWalShard(Integer walShard) {
+		this.walShard = walShard;
+	}
+
+	public Long getWalSequence() {
+		return walSequence;
+	}
+
+	public void setWalSequence(Long walSequence) {
+		this.walSequence = walSequence;
+	}
+}
@@ -66,6 +66,13 @@ public class Seller {
     
     @Column(nullable = false)
     private double pendingwithdrawal;
+
+    // denormalized for the profile read model; kept current by SellerStatsService
+    @Column(nullable = false)
+    private long artworkCount;
+
+    @Column(nullable = false)
+    private long followerCount;
     
     @OneToMany(
             mappedBy = "seller",
@@ -262,7 +269,20 @@ public class Seller {
 	public void setPendingwithdrawal(double pendingwithdrawal) {
 		this.pendingwithdrawal = pendingwithdrawal;
 	}
-    
-    
-    
+
+	public long getArtworkCount() {
+		return artworkCount;
+	}
+
+	public void setArtworkCount(long artworkCount) {
+		this.artworkCount = artworkCount;
+	}
+
+	public long getFollowerCount() {
+		return followerCount;
+	}
+
+	public void setFollowerCount(long followerCount) {
+		this.followerCount = followerCount;
+	}
 }
@@ -1,7 +1,23 @@
 package lk.artify.backend.repository;
 
+import lk.artify.backend.dto.ArtworkImageInfo;
 import lk.artify.backend.model.ArtWorkImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ArtWorkImageRepository extends JpaRepository<ArtWorkImage, Long> {
+
+    @Query("SELECT i.id AS id, i.artWork.id AS artworkId, i.contentType AS contentType, i.size AS size, "
+            + "i.contentHash AS contentHash, i.position AS position "
+            + "FROM ArtWorkImage i WHERE i.artWork.id = :artworkId ORDER BY i.position, i.id")
+    List<ArtworkImageInfo> findInfoByArtworkId(@Param("artworkId") Long artworkId);
+
+    @Query("SELECT i.id AS id, i.artWork.id AS artworkId, i.contentType AS contentType, i.size AS size, "
+            + "i.contentHash AS contentHash, i.position AS position "
+            + "FROM ArtWorkImage i WHERE i.artWork.id IN :artworkIds ORDER BY i.artWork.id, i.position, i.id")
+    List<ArtworkImageInfo> findInfoByArtworkIds(@Param("artworkIds") Collection<Long> artworkIds);
 }
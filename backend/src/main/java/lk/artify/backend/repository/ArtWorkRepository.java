@@ -1,16 +1,89 @@
 package lk.artify.backend.repository;
 
 import lk.artify.backend.dto.ArtworkBasicInfoDTO;
+import lk.artify.backend.dto.ArtworkDetailRow;
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import lk.artify.backend.dto.StatusCountDTO;
 import lk.artify.backend.model.ArtWork;
 import lk.artify.backend.model.ArtWork.SellingStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArtWorkRepository extends JpaRepository<ArtWork, Long> {
-    List<ArtworkBasicInfoDTO> findBySeller_sellerIdAndSellingStatus(Long sellerId, SellingStatus sellingStatus);
+
+    // Home feed rows plus the cover image in one statement; keyset order is (addedDate, id) desc.
+    // The cover is the first image in display order (position, then id), as on the detail screen.
+    // Undated rows have no place in the keyset order, so every feed query leaves them out explicitly.
+    String HOME_FEED_SELECT = "SELECT new lk.artify.backend.dto.ArtworkHomeDTO("
+            + "a.id, a.artworkName, a.artist, a.type, a.price, a.sellingStatus, a.addedDate, i.id, i.contentType) "
+            + "FROM ArtWork a LEFT JOIN ArtWorkImage i ON i.id = "
+            + "(SELECT i2.id FROM ArtWorkImage i2 WHERE i2.artWork = a ORDER BY i2.position, i2.id LIMIT 1) "
+            + "WHERE a.addedDate IS NOT NULL ";
+    String HOME_FEED_AFTER = "AND (a.addedDate < :addedDate OR (a.addedDate = :addedDate AND a.id < :id)) ";
+    String HOME_FEED_ORDER = "ORDER BY a.addedDate DESC, a.id DESC";
+
+    // Everything the detail screen needs in one statement: one row per image, seller and auction joined.
+    String DETAIL_SELECT = "SELECT a.id AS id, a.artworkName AS artworkName, a.type AS type, a.subType AS subType, a.artist AS artist, "
+            + "a.description AS description, a.price AS price, a.price_of_copy AS priceOfCopy, a.unit AS unit, "
+            + "a.widthOfArt AS widthOfArt, a.heightOfArt AS heightOfArt, a.lengthOfArt AS lengthOfArt, "
+            + "a.availability AS availability, a.availablecopies AS availablecopies, a.addedDate AS addedDate, "
+            + "a.copyAvailability AS copyAvailability, a.artCopyType AS artCopyType, a.noOfCopies AS noOfCopies, "
+            + "a.minimumQuantityPerBuyer AS minimumQuantityPerBuyer, a.sellingStatus AS sellingStatus, "
+            + "a.minimumBid AS minimumBid, a.currentBid AS currentBid, "
+            + "s.sellerId AS sellerId, s.businessName AS sellerName, s.profile_pic AS sellerAvatar, "
+            + "s.verified AS sellerVerified, s.location AS sellerLocation, s.rate AS sellerRate, "
+            + "au.id AS auctionId, au.auctionName AS auctionName, au.endDateTime AS auctionEndDateTime, "
+            + "i.id AS imageId "
+            + "FROM ArtWork a LEFT JOIN a.seller s LEFT JOIN a.auction au LEFT JOIN a.images i ";
+
+    @Query(DETAIL_SELECT + "WHERE a.id = :id ORDER BY i.position, i.id")
+    List<ArtworkDetailRow> findDetailRows(@Param("id") Long id);
+
+    @Query(DETAIL_SELECT + "WHERE a.id IN :ids ORDER BY a.id, i.position, i.id")
+    List<ArtworkDetailRow> findDetailRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // Seller inventory: id and name only, served by idx_artwork_seller_status.
+    String INVENTORY_SELECT = "SELECT new lk.artify.backend.dto.ArtworkBasicInfoDTO(a.id, a.artworkName) FROM ArtWork a "
+            + "WHERE a.seller.sellerId = :sellerId ";
+    String INVENTORY_BY_STATUS = INVENTORY_SELECT + "AND a.sellingStatus = :sellingStatus ";
+    String INVENTORY_ORDER = "ORDER BY a.id DESC";
+
+    @Query(INVENTORY_BY_STATUS + INVENTORY_ORDER)
+    List<ArtworkBasicInfoDTO> findBySeller_sellerIdAndSellingStatus(@Param("sellerId") Long sellerId,
+                                                                    @Param("sellingStatus") SellingStatus sellingStatus);
+
+    @Query(INVENTORY_BY_STATUS + INVENTORY_ORDER)
+    List<ArtworkBasicInfoDTO> findInventoryPage(@Param("sellerId") Long sellerId,
+                                                @Param("sellingStatus") SellingStatus sellingStatus, Pageable pageable);
+
+    @Query(INVENTORY_SELECT + INVENTORY_ORDER)
+    List<ArtworkBasicInfoDTO> findInventoryPage(@Param("sellerId") Long sellerId, Pageable pageable);
+
+    @Query("SELECT new lk.artify.backend.dto.StatusCountDTO(a.sellingStatus, COUNT(a)) FROM ArtWork a "
+            + "WHERE a.seller.sellerId = :sellerId GROUP BY a.sellingStatus")
+    List<StatusCountDTO> countBySellingStatus(@Param("sellerId") Long sellerId);
     List<ArtWork> findByAuctionIsNull();
     List<ArtWork> findByAuctionId(Long auctionId);
-}
\ No newline at end of file
+
+    @Query(HOME_FEED_SELECT + "AND a.auction IS NULL " + HOME_FEED_ORDER)
+    List<ArtworkHomeDTO> findHomeFeed(Limit limit);
+
+    @Query(HOME_FEED_SELECT + "AND a.auction IS NULL " + HOME_FEED_AFTER + HOME_FEED_ORDER)
+    List<ArtworkHomeDTO> findHomeFeedAfter(@Param("addedDate") LocalDate addedDate, @Param("id") Long id, Limit limit);
+
+    @Query(HOME_FEED_SELECT + "AND a.auction.id = :auctionId " + HOME_FEED_ORDER)
+    List<ArtworkHomeDTO> findAuctionFeed(@Param("auctionId") Long auctionId, Limit limit);
+
+    @Query(HOME_FEED_SELECT + "AND a.auction.id = :auctionId " + HOME_FEED_AFTER + HOME_FEED_ORDER)
+    List<ArtworkHomeDTO> findAuctionFeedAfter(@Param("auctionId") Long auctionId, @Param("addedDate") LocalDate addedDate,
+                                              @Param("id") Long id, Limit limit);
+}
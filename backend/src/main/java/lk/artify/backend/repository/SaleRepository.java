@@ -0,0 +1,9 @@
+package lk.artify.backend.repository;
+
+import lk.artify.backend.model.Sale;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SaleRepository extends JpaRepository<Sale, Long> {
+}
@@ -1,10 +1,29 @@
 package lk.artify.backend.repository;
 
+import lk.artify.backend.dto.SellerProfileDTO;
 import lk.artify.backend.model.Seller;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SellerRepository extends JpaRepository<Seller, Long> {
 	Seller findByUserId(Long id);
+
+	String PROFILE_SELECT = "SELECT new lk.artify.backend.dto.SellerProfileDTO(s.sellerId, s.user.id, s.type, s.businessName, "
+			+ "s.businessEmail, s.businessPhone, s.location, s.rate, s.verified, s.profile_pic, s.totalIncome, "
+			+ "s.totalwithdrawal, s.pendingwithdrawal, s.artworkCount, s.followerCount) FROM Seller s ";
+
+	@Query(PROFILE_SELECT + "WHERE s.sellerId = :sellerId")
+	SellerProfileDTO findProfileById(@Param("sellerId") Long sellerId);
+
+	@Query(PROFILE_SELECT + "WHERE s.user.id = :userId")
+	SellerProfileDTO findProfileByUserId(@Param("userId") Long userId);
+
+	@Query(PROFILE_SELECT + "WHERE s.sellerId IN :ids")
+	List<SellerProfileDTO> findProfilesByIds(@Param("ids") Collection<Long> ids);
 }
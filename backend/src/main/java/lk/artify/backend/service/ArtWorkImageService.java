@@ -2,12 +2,18 @@ package lk.artify.backend.service;
 
 import lk.artify.backend.model.ArtWork; 
 import lk.artify.backend.model.ArtWorkImage;
+import lk.artify.backend.model.ArtWorkImage.Variant;
 import lk.artify.backend.repository.ArtWorkImageRepository;
+import lk.artify.backend.util.StreamingResource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
 
 @Service
 public class ArtWorkImageService {
@@ -15,13 +21,90 @@ public class ArtWorkImageService {
     @Autowired
     private ArtWorkImageRepository imageRepository;
 
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private LegacyImageLobReader legacyReader;
+
+    @Autowired
+    private ImageDerivativeService derivativeService;
+
+    @Autowired
+    private ImageCache imageCache;
+
     public ArtWorkImage storeImage(MultipartFile file, ArtWork artWork) throws IOException {
+        StoredBlob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = blobStore.put(in);
+        }
         ArtWorkImage image = new ArtWorkImage();
         image.setFileName(file.getOriginalFilename());
         image.setContentType(file.getContentType());
-        image.setData(file.getBytes());
+        image.setContentHash(blob.getHash());
+        image.setSize(blob.getSize());
         image.setArtWork(artWork);
-        return imageRepository.save(image);
+        ArtWorkImage saved = imageRepository.save(image);
+        derivativeService.scheduleAfterCommit(saved.getId());
+        return saved;
     }
-}
 
+    public Optional<StoredImage> loadImage(Long id) {
+        return loadImage(id, null);
+    }
+
+    /**
+     * Hot images come from the in-memory cache; otherwise only the metadata is
+     * read here and the bytes are streamed, or sent from the file, when the
+     * response is written. A miss is offered to the cache, which may copy it in
+     * the background. A null variant means the original upload. A derivative
+     * that is not built yet falls back to the original, marked as not immutable.
+     */
+    public Optional<StoredImage> loadImage(Long id, Variant variant) {
+        StoredImage cached = imageCache.get(id, variant);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<StoredImage> loaded = loadUncached(id, variant);
+        loaded.ifPresent(image -> imageCache.offer(id, variant, image));
+        return loaded;
+    }
+
+    private Optional<StoredImage> loadUncached(Long id, Variant variant) {
+        Optional<ArtWorkImage> found = imageRepository.findById(id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        ArtWorkImage image = found.get();
+
+        if (variant != null && image.getVariantHash(variant) != null) {
+            String hash = image.getVariantHash(variant);
+            Optional<StoredImage> derivative = blobStore.get(hash)
+                    .map(resource -> new StoredImage(id, "image/jpeg", contentLength(resource),
+                            "\"" + hash + "\"", resource, true));
+            if (derivative.isPresent()) {
+                return derivative;
+            }
+        }
+        boolean immutable = variant == null;
+
+        if (image.getContentHash() != null) {
+            return blobStore.get(image.getContentHash())
+                    .map(resource -> new StoredImage(id, image.getContentType(), image.getSize(),
+                            "\"" + image.getContentHash() + "\"", resource, immutable));
+        }
+
+        // not migrated yet: stream from the old LOB column
+        return legacyReader.length(id).map(size -> new StoredImage(id, image.getContentType(), size,
+                "\"" + id + "-" + size + "\"",
+                new StreamingResource("artwork image " + id, size, () -> legacyReader.open(id, size)), immutable));
+    }
+
+    private static long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,216 @@
 package lk.artify.backend.service;
 
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.model.ArtWork;
+import lk.artify.backend.model.Seller;
+import lk.artify.backend.repository.ArtWorkRepository;
+import lk.artify.backend.repository.SellerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
 public class ArtWorkService {
 
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO art_work_image (file_name, content_type, content_hash, size, position, artwork_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ArtWorkRepository artWorkRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ImageDerivativeService derivativeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService ingestPool;
+
+    public ArtWorkService(@Value("${artify.artworks.ingest-threads:4}") int ingestThreads,
+                          @Value("${artify.artworks.ingest-queue:64}") int ingestQueue) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // when the queue is full the uploading request ingests the image itself, which slows the burst down
+        this.ingestPool = new ThreadPoolExecutor(ingestThreads, ingestThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ingestQueue)), r -> {
+                    Thread t = new Thread(r, "artwork-image-ingest-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ingestPool.shutdown();
+    }
+
+    /**
+     * Streams, hashes and validates all images in parallel before any database
+     * work, then saves the artwork and inserts every image row as one JDBC batch
+     * inside a single transaction. Blobs written for a create that later fails
+     * stay in the store; being content-addressed they are reused by a retry.
+     */
+    public ArtWork createArtwork(ArtWork artWork, Long sellerId, List<MultipartFile> images) throws IOException {
+        List<IngestedImage> ingested = ingestAll(images);
+
+        return transactionTemplate.execute(status -> {
+            Seller seller = sellerRepository.findById(sellerId)
+                    .orElseThrow(() -> new IllegalArgumentException("Seller not found"));
+            artWork.setSeller(seller);
+            ArtWork saved = artWorkRepository.saveAndFlush(artWork);
+
+            for (Long imageId : insertImages(saved.getId(), ingested)) {
+                derivativeService.scheduleAfterCommit(imageId);
+            }
+            return saved;
+        });
+    }
+
+    private List<IngestedImage> ingestAll(List<MultipartFile> images) throws IOException {
+        List<CompletableFuture<IngestedImage>> futures = new ArrayList<>(images.size());
+        for (MultipartFile file : images) {
+            futures.add(CompletableFuture.supplyAsync(() -> ingest(file), ingestPool));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+        List<IngestedImage> result = new ArrayList<>(futures.size());
+        for (CompletableFuture<IngestedImage> future : futures) {
+            result.add(future.join());
+        }
+        return result;
+    }
+
+    private IngestedImage ingest(MultipartFile file) {
+        try {
+            StoredBlob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = blobStore.put(in);
+            }
+            validateImage(file.getOriginalFilename(), blob);
+            return new IngestedImage(file.getOriginalFilename(), file.getContentType(), blob);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // reads only the header: enough to reject non-images without decoding pixels
+    private void validateImage(String fileName, StoredBlob blob) throws IOException {
+        Resource stored = blobStore.get(blob.getHash())
+                .orElseThrow(() -> new IOException("Stored image " + blob.getHash() + " is missing"));
+        try (InputStream in = stored.getInputStream(); ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("File " + fileName + " is not a supported image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                if (reader.getWidth(0) <= 0 || reader.getHeight(0) <= 0) {
+                    throw new IllegalArgumentException("File " + fileName + " has no image content");
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // ArtWorkImage uses IDENTITY ids, which stops Hibernate from batching, so the rows go in through JDBC
+    private List<Long> insertImages(Long artworkId, List<IngestedImage> images) {
+        if (images.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_IMAGE_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        IngestedImage image = images.get(i);
+                        ps.setString(1, image.fileName);
+                        if (image.contentType != null) {
+                            ps.setString(2, image.contentType);
+                        } else {
+                            ps.setNull(2, Types.VARCHAR);
+                        }
+                        ps.setString(3, image.blob.getHash());
+                        ps.setLong(4, image.blob.getSize());
+                        ps.setInt(5, i);
+                        ps.setLong(6, artworkId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return images.size();
+                    }
+                },
+                keys);
+
+        List<Long> ids = new ArrayList<>(images.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            Object id = row.values().iterator().next();
+            ids.add(((Number) id).longValue());
+        }
+        return ids;
+    }
+
+    private static final class IngestedImage {
+
+        private final String fileName;
+        private final String contentType;
+        private final StoredBlob blob;
+
+        private IngestedImage(String fileName, String contentType, StoredBlob blob) {
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.blob = blob;
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package lk.artify.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.artify.backend.util.StreamingQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes the whole artwork catalog as NDJSON, one artwork per line, while
+ * streaming the rows of one forward-only query. Memory use does not depend
+ * on the catalog size.
+ */
+@Service
+public class ArtworkCatalogExporter {
+
+    // one row per image; rows for an artwork are adjacent so they can be folded while streaming
+    private static final String CATALOG_SQL =
+            "SELECT a.id, a.artwork_name, a.artist, a.type, a.sub_type, a.price, a.selling_status, "
+                    + "a.availability, a.added_date, a.auction_id, a.seller_id, i.id AS image_id "
+                    + "FROM art_work a LEFT JOIN art_work_image i ON i.artwork_id = a.id "
+                    + "ORDER BY a.id, i.position, i.id";
+
+    private static final String IMAGE_URL_PREFIX = "/api/artworks/images/";
+
+    private static final int FLUSH_EVERY = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ArtworkCatalogExporter(JdbcTemplate jdbcTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${artify.catalog.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            json.setRootValueSeparator(null);
+            RowWriter writer = new RowWriter(json);
+            try {
+                jdbcTemplate.query(con -> StreamingQuery.prepare(con, CATALOG_SQL, fetchSize), writer::row);
+                writer.finish();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class RowWriter {
+
+        private final JsonGenerator json;
+        private Long currentId;
+        private int written;
+
+        RowWriter(JsonGenerator json) {
+            this.json = json;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            try {
+                long id = rs.getLong("id");
+                if (currentId == null || currentId != id) {
+                    if (currentId != null) {
+                        endArtwork();
+                    }
+                    startArtwork(rs, id);
+                }
+                long imageId = rs.getLong("image_id");
+                if (!rs.wasNull()) {
+                    json.writeString(IMAGE_URL_PREFIX + imageId);
+                }
+            } catch (IOException e) {
+                // the client went away; stop reading the cursor
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() {
+            try {
+                if (currentId != null) {
+                    endArtwork();
+                }
+                json.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void startArtwork(ResultSet rs, long id) throws SQLException, IOException {
+            currentId = id;
+            json.writeStartObject();
+            json.writeNumberField("id", id);
+            json.writeStringField("artworkName", rs.getString("artwork_name"));
+            json.writeStringField("artist", rs.getString("artist"));
+            json.writeStringField("type", rs.getString("type"));
+            json.writeStringField("subType", rs.getString("sub_type"));
+            BigDecimal price = rs.getBigDecimal("price");
+            if (price != null) {
+                json.writeNumberField("price", price);
+            } else {
+                json.writeNullField("price");
+            }
+            json.writeStringField("sellingStatus", rs.getString("selling_status"));
+            json.writeBooleanField("availability", rs.getBoolean("availability"));
+            Date addedDate = rs.getDate("added_date");
+            json.writeStringField("addedDate", addedDate != null ? addedDate.toLocalDate().toString() : null);
+            writeNullableLong("auctionId", rs.getLong("auction_id"), rs.wasNull());
+            writeNullableLong("sellerId", rs.getLong("seller_id"), rs.wasNull());
+            json.writeArrayFieldStart("imageUrls");
+        }
+
+        private void endArtwork() throws IOException {
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++written % FLUSH_EVERY == 0) {
+                json.flush();
+            }
+        }
+
+        private void writeNullableLong(String field, long value, boolean isNull) throws IOException {
+            if (isNull) {
+                json.writeNullField(field);
+            } else {
+                json.writeNumberField(field, value);
+            }
+        }
+    }
+}
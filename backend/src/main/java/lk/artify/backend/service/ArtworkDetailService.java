@@ -0,0 +1,120 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkDetailDTO;
+import lk.artify.backend.dto.ArtworkDetailRow;
+import lk.artify.backend.dto.SellerSummaryDTO;
+import lk.artify.backend.event.ArtworkChangedEvent;
+import lk.artify.backend.repository.ArtWorkRepository;
+import lk.artify.backend.util.SingleFlightCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Artwork detail pages, built from one joined query and cached per id.
+ * Artwork changes evict the entry after commit; the TTL bounds how long
+ * seller details (name, avatar, verification) can lag behind.
+ */
+@Service
+public class ArtworkDetailService {
+
+    private final ArtWorkRepository artWorkRepository;
+    private final SingleFlightCache<Long, ArtworkDetailDTO> cache;
+
+    public ArtworkDetailService(ArtWorkRepository artWorkRepository,
+                                @Value("${artify.artworks.detail-cache.max-entries:5000}") int maxEntries,
+                                @Value("${artify.artworks.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.artWorkRepository = artWorkRepository;
+        this.cache = new SingleFlightCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public Optional<ArtworkDetailDTO> getDetail(Long id) {
+        return Optional.ofNullable(cache.get(id, this::load));
+    }
+
+    // cached details first, then one IN query for the misses; unknown ids are left out
+    public Map<Long, ArtworkDetailDTO> getDetails(Collection<Long> ids) {
+        return cache.getAll(ids, this::loadAll);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtworkChanged(ArtworkChangedEvent event) {
+        if (event.getArtworkId() != null) {
+            cache.invalidate(event.getArtworkId());
+        }
+    }
+
+    // for writes that bypass the entity listener, such as bid persistence
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    private ArtworkDetailDTO load(Long id) {
+        List<ArtworkDetailRow> rows = artWorkRepository.findDetailRows(id);
+        return rows.isEmpty() ? null : toDetail(rows);
+    }
+
+    private Map<Long, ArtworkDetailDTO> loadAll(Set<Long> ids) {
+        Map<Long, List<ArtworkDetailRow>> rowsById = new LinkedHashMap<>();
+        for (ArtworkDetailRow row : artWorkRepository.findDetailRowsByIds(ids)) {
+            rowsById.computeIfAbsent(row.getId(), k -> new ArrayList<>()).add(row);
+        }
+        Map<Long, ArtworkDetailDTO> details = new HashMap<>();
+        rowsById.forEach((id, rows) -> details.put(id, toDetail(rows)));
+        return details;
+    }
+
+    private ArtworkDetailDTO toDetail(List<ArtworkDetailRow> rows) {
+        ArtworkDetailRow first = rows.get(0);
+        ArtworkDetailDTO dto = new ArtworkDetailDTO();
+        dto.setId(first.getId());
+        dto.setArtworkName(first.getArtworkName());
+        dto.setType(first.getType());
+        dto.setSubType(first.getSubType());
+        dto.setArtist(first.getArtist());
+        dto.setDescription(first.getDescription());
+        dto.setPrice(first.getPrice());
+        dto.setPriceOfCopy(first.getPriceOfCopy());
+        dto.setUnit(first.getUnit());
+        dto.setWidthOfArt(first.getWidthOfArt());
+        dto.setHeightOfArt(first.getHeightOfArt());
+        dto.setLengthOfArt(first.getLengthOfArt());
+        dto.setAvailability(Boolean.TRUE.equals(first.getAvailability()));
+        dto.setAvailablecopies(first.getAvailablecopies());
+        dto.setAddedDate(first.getAddedDate());
+        dto.setCopyAvailability(Boolean.TRUE.equals(first.getCopyAvailability()));
+        dto.setArtCopyType(first.getArtCopyType());
+        dto.setNoOfCopies(first.getNoOfCopies());
+        dto.setMinimumQuantityPerBuyer(first.getMinimumQuantityPerBuyer());
+        dto.setSellingStatus(first.getSellingStatus());
+        dto.setMinimumBid(first.getMinimumBid());
+        dto.setCurrentBid(first.getCurrentBid());
+        dto.setAuctionId(first.getAuctionId());
+        dto.setAuctionName(first.getAuctionName());
+        dto.setAuctionEndDateTime(first.getAuctionEndDateTime());
+        if (first.getSellerId() != null) {
+            dto.setSeller(new SellerSummaryDTO(first.getSellerId(), first.getSellerName(), first.getSellerAvatar(),
+                    Boolean.TRUE.equals(first.getSellerVerified()), first.getSellerLocation(),
+                    first.getSellerRate() != null ? first.getSellerRate() : 0));
+        }
+
+        List<String> images = new ArrayList<>(rows.size());
+        for (ArtworkDetailRow row : rows) {
+            if (row.getImageId() != null) {
+                images.add("/api/artworks/images/" + row.getImageId() + "?size=detail");
+            }
+        }
+        dto.setImages(images);
+        return dto;
+    }
+}
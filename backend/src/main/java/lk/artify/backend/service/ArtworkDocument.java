@@ -0,0 +1,23 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One artwork as the in-memory search and facet indexes see it: the searchable
+ * text, the facet attributes and the card returned in results.
+ */
+public record ArtworkDocument(Long id, String artworkName, String artist, String type, String subType,
+                              String description, BigDecimal price, SellingStatus sellingStatus,
+                              LocalDate addedDate, boolean approved, Long auctionId, Long sellerId,
+                              Long imageId, String imageContentType, boolean copyAvailability,
+                              String unit, Integer widthOfArt, Integer heightOfArt, Integer lengthOfArt) {
+
+    public ArtworkHomeDTO toCard() {
+        return new ArtworkHomeDTO(id, artworkName, artist, type, price, sellingStatus, addedDate,
+                imageId, imageContentType);
+    }
+}
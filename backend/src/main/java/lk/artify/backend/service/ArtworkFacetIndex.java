@@ -0,0 +1,488 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkBrowsePageDTO;
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Faceted browse over the artwork catalog, answered entirely from memory.
+ *
+ * Each facet value owns a BitSet of document ordinals and a live counter kept
+ * up to date on every write. Price, size and recency are kept as sorted
+ * primitive arrays, so ranges and ordering need no per-request sort. Filters
+ * are intersected as bitmaps. A facet's counts ignore that facet's own
+ * selection, so buyers can still see the other values they could switch to;
+ * the price and size ranges are filters of their own and narrow every count.
+ */
+@Service
+public class ArtworkFacetIndex {
+
+    public enum Facet {
+        TYPE("type"),
+        SUB_TYPE("subType"),
+        SELLING_STATUS("sellingStatus"),
+        COPY_AVAILABILITY("copyAvailability"),
+        PRICE("price"),
+        SIZE("size");
+
+        private final String paramName;
+
+        Facet(String paramName) {
+            this.paramName = paramName;
+        }
+
+        public String getParamName() {
+            return paramName;
+        }
+    }
+
+    // bucket lower bounds in whole currency units, for the price facet counts
+    private static final long[] PRICE_BUCKETS = {0, 100, 500, 1000, 5000};
+
+    // longest edge in millimetres: below 300 is small, below 1000 medium, otherwise large
+    private static final long SMALL_MAX_MM = 300;
+    private static final long MEDIUM_MAX_MM = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    /**
+     * Selected facet values (OR within a facet, AND across facets) plus numeric
+     * ranges; a null bound is open. Prices are in cents and sizes in millimetres.
+     */
+    public static class Query {
+        private final Map<Facet, Set<String>> values = new EnumMap<>(Facet.class);
+        private Long minPriceCents;
+        private Long maxPriceCents;
+        private final long[][] sizeRanges = new long[3][];
+
+        public Query select(Facet facet, Set<String> selected) {
+            if (selected != null && !selected.isEmpty()) {
+                values.put(facet, selected);
+            }
+            return this;
+        }
+
+        public Query price(Long minCents, Long maxCents) {
+            this.minPriceCents = minCents;
+            this.maxPriceCents = maxCents;
+            return this;
+        }
+
+        // dimension 0 = width, 1 = height, 2 = length
+        public Query size(int dimension, Long minMm, Long maxMm) {
+            if (minMm != null || maxMm != null) {
+                sizeRanges[dimension] = new long[]{
+                        minMm != null ? minMm : Long.MIN_VALUE,
+                        maxMm != null ? maxMm : Long.MAX_VALUE};
+            }
+            return this;
+        }
+
+        boolean hasPriceRange() {
+            return minPriceCents != null || maxPriceCents != null;
+        }
+
+        boolean hasSizeRange() {
+            return sizeRanges[0] != null || sizeRanges[1] != null || sizeRanges[2] != null;
+        }
+    }
+
+    public void put(ArtworkDocument document) {
+        lock.writeLock().lock();
+        try {
+            segment.put(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long artworkId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(artworkId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replace(Segment rebuilt) {
+        lock.writeLock().lock();
+        try {
+            segment = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return segment.deleted > Math.max(1000, segment.live.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ArtworkBrowsePageDTO browse(Query query, int page, int size) {
+        lock.readLock().lock();
+        try {
+            Segment s = segment;
+            Map<Facet, BitSet> filters = new EnumMap<>(Facet.class);
+            query.values.forEach((facet, selected) -> filters.put(facet, s.union(facet, selected)));
+
+            // live documents inside the ranges; the facet selections narrow it further
+            BitSet inRange = (BitSet) s.live.clone();
+            if (query.hasPriceRange()) {
+                inRange.and(s.price.range(
+                        query.minPriceCents != null ? query.minPriceCents : Long.MIN_VALUE,
+                        query.maxPriceCents != null ? query.maxPriceCents : Long.MAX_VALUE));
+            }
+            if (query.hasSizeRange()) {
+                for (int d = 0; d < 3; d++) {
+                    long[] range = query.sizeRanges[d];
+                    if (range != null) {
+                        inRange.and(s.dimensions[d].range(range[0], range[1]));
+                    }
+                }
+            }
+            boolean unfiltered = filters.isEmpty() && !query.hasPriceRange() && !query.hasSizeRange();
+
+            BitSet matches = (BitSet) inRange.clone();
+            filters.values().forEach(matches::and);
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                facets.put(facet.getParamName(), unfiltered ? s.counts(facet) : s.counts(facet, inRange, filters));
+            }
+
+            List<ArtworkHomeDTO> items = new ArrayList<>(size);
+            int skip = page * size;
+            for (int i = s.recency.size - 1; i >= 0 && items.size() < size; i--) {
+                int ord = s.recency.ordinals[i];
+                if (matches.get(ord) && skip-- <= 0) {
+                    items.add(s.cards.get(ord));
+                }
+            }
+            return new ArtworkBrowsePageDTO(items, matches.cardinality(), page, size, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String priceBucket(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        for (int i = PRICE_BUCKETS.length - 1; i >= 0; i--) {
+            if (price.compareTo(BigDecimal.valueOf(PRICE_BUCKETS[i])) >= 0) {
+                return i == PRICE_BUCKETS.length - 1
+                        ? PRICE_BUCKETS[i] + "+"
+                        : PRICE_BUCKETS[i] + "-" + PRICE_BUCKETS[i + 1];
+            }
+        }
+        return null;
+    }
+
+    // cm and inches are comparable; pixel sizes are digital works and carry no physical size
+    static Long toMillimetres(Integer value, String unit) {
+        if (value == null || unit == null) {
+            return null;
+        }
+        return switch (unit.toLowerCase()) {
+            case "cm" -> value * 10L;
+            case "in" -> Math.round(value * 25.4);
+            default -> null;
+        };
+    }
+
+    static String sizeBucket(ArtworkDocument d) {
+        if ("px".equalsIgnoreCase(d.unit())) {
+            return "digital";
+        }
+        long longest = -1;
+        for (Integer edge : new Integer[]{d.widthOfArt(), d.heightOfArt(), d.lengthOfArt()}) {
+            Long mm = toMillimetres(edge, d.unit());
+            if (mm != null) {
+                longest = Math.max(longest, mm);
+            }
+        }
+        if (longest < 0) {
+            return null;
+        }
+        return longest < SMALL_MAX_MM ? "small" : longest < MEDIUM_MAX_MM ? "medium" : "large";
+    }
+
+    static final class Segment {
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<ArtworkDocument> docs = new ArrayList<>();
+        private final List<ArtworkHomeDTO> cards = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private int deleted;
+
+        private final Map<Facet, Map<String, BitSet>> bitmaps = new EnumMap<>(Facet.class);
+        private final Map<Facet, Map<String, Integer>> counters = new EnumMap<>(Facet.class);
+
+        private final SortedColumn price = new SortedColumn();
+        private final SortedColumn[] dimensions = {new SortedColumn(), new SortedColumn(), new SortedColumn()};
+        // ascending (addedDate, id); browse walks it backwards for newest first
+        private final SortedColumn recency = new SortedColumn();
+
+        Segment() {
+            for (Facet facet : Facet.values()) {
+                bitmaps.put(facet, new HashMap<>());
+                counters.put(facet, new TreeMap<>());
+            }
+        }
+
+        void put(ArtworkDocument d) {
+            remove(d.id());
+            add(d, false);
+        }
+
+        /**
+         * Bulk load for a rebuild: documents are appended unsorted and each
+         * must be new to the segment. Call sort() once all are in.
+         */
+        void append(ArtworkDocument d) {
+            add(d, true);
+        }
+
+        void sort() {
+            price.sort();
+            for (SortedColumn dimension : dimensions) {
+                dimension.sort();
+            }
+            recency.sort();
+        }
+
+        private void add(ArtworkDocument d, boolean bulk) {
+            int ord = docs.size();
+            docs.add(d);
+            cards.add(d.toCard());
+            ordinals.put(d.id(), ord);
+            live.set(ord);
+
+            for (Facet facet : Facet.values()) {
+                String value = valueOf(facet, d);
+                if (value != null) {
+                    bitmaps.get(facet).computeIfAbsent(value, k -> new BitSet()).set(ord);
+                    counters.get(facet).merge(value, 1, Integer::sum);
+                }
+            }
+            if (d.price() != null) {
+                price.add(d.price().movePointRight(2).longValue(), ord, bulk);
+            }
+            Integer[] edges = {d.widthOfArt(), d.heightOfArt(), d.lengthOfArt()};
+            for (int i = 0; i < 3; i++) {
+                Long mm = toMillimetres(edges[i], d.unit());
+                if (mm != null) {
+                    dimensions[i].add(mm, ord, bulk);
+                }
+            }
+            long day = d.addedDate() != null ? d.addedDate().toEpochDay() : 0;
+            recency.add((day << 40) | (d.id() & ((1L << 40) - 1)), ord, bulk);
+        }
+
+        // postings and sorted arrays keep the dead ordinal until the next rebuild; live masks it out
+        void remove(long artworkId) {
+            Integer ord = ordinals.remove(artworkId);
+            if (ord == null) {
+                return;
+            }
+            ArtworkDocument d = docs.get(ord);
+            for (Facet facet : Facet.values()) {
+                String value = valueOf(facet, d);
+                if (value != null) {
+                    bitmaps.get(facet).get(value).clear(ord);
+                    counters.get(facet).computeIfPresent(value, (k, n) -> n > 1 ? n - 1 : null);
+                }
+            }
+            live.clear(ord);
+            deleted++;
+        }
+
+        BitSet union(Facet facet, Set<String> selected) {
+            BitSet bits = new BitSet();
+            for (String value : selected) {
+                BitSet valueBits = bitmaps.get(facet).get(value);
+                if (valueBits != null) {
+                    bits.or(valueBits);
+                }
+            }
+            return bits;
+        }
+
+        Map<String, Integer> counts(Facet facet) {
+            return new LinkedHashMap<>(counters.get(facet));
+        }
+
+        // counts within the ranges, narrowed by every selection except the facet's own
+        Map<String, Integer> counts(Facet facet, BitSet inRange, Map<Facet, BitSet> filters) {
+            BitSet base = (BitSet) inRange.clone();
+            filters.forEach((other, bits) -> {
+                if (other != facet) {
+                    base.and(bits);
+                }
+            });
+            Map<String, Integer> counts = new TreeMap<>();
+            bitmaps.get(facet).forEach((value, bits) -> {
+                BitSet both = (BitSet) bits.clone();
+                both.and(base);
+                int n = both.cardinality();
+                if (n > 0) {
+                    counts.put(value, n);
+                }
+            });
+            return counts;
+        }
+
+        private static String valueOf(Facet facet, ArtworkDocument d) {
+            return switch (facet) {
+                case TYPE -> d.type();
+                case SUB_TYPE -> d.subType();
+                case SELLING_STATUS -> d.sellingStatus() != null ? d.sellingStatus().name() : null;
+                case COPY_AVAILABILITY -> String.valueOf(d.copyAvailability());
+                case PRICE -> priceBucket(d.price());
+                case SIZE -> sizeBucket(d);
+            };
+        }
+    }
+
+    /**
+     * Ordinals sorted by (key, ordinal), kept as two parallel arrays. An
+     * incremental insert shifts the tail in place, which is cheap next to how
+     * often the column is read; a rebuild appends everything and sorts once.
+     */
+    static final class SortedColumn {
+
+        private long[] keys = new long[16];
+        private int[] ordinals = new int[16];
+        private int size;
+
+        void add(long key, int ordinal, boolean append) {
+            if (append) {
+                append(key, ordinal);
+            } else {
+                insert(key, ordinal);
+            }
+        }
+
+        // ordinals only grow, so an equal key goes after the ones already held
+        void insert(long key, int ordinal) {
+            grow();
+            int pos = upperBound(key);
+            System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+            System.arraycopy(ordinals, pos, ordinals, pos + 1, size - pos);
+            keys[pos] = key;
+            ordinals[pos] = ordinal;
+            size++;
+        }
+
+        void append(long key, int ordinal) {
+            grow();
+            keys[size] = key;
+            ordinals[size] = ordinal;
+            size++;
+        }
+
+        // heapsort on the parallel arrays: no boxing and no extra memory
+        void sort() {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i, size);
+            }
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= end) {
+                    return;
+                }
+                if (child + 1 < end && before(child, child + 1)) {
+                    child++;
+                }
+                if (!before(i, child)) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private boolean before(int a, int b) {
+            return keys[a] < keys[b] || (keys[a] == keys[b] && ordinals[a] < ordinals[b]);
+        }
+
+        private void swap(int a, int b) {
+            long key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            int ordinal = ordinals[a];
+            ordinals[a] = ordinals[b];
+            ordinals[b] = ordinal;
+        }
+
+        private void grow() {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+        }
+
+        // ordinals whose key lies in [min, max]
+        BitSet range(long min, long max) {
+            BitSet bits = new BitSet();
+            for (int i = lowerBound(min); i < size && keys[i] <= max; i++) {
+                bits.set(ordinals[i]);
+            }
+            return bits;
+        }
+
+        private int lowerBound(long key) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private int upperBound(long key) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] <= key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.event.ArtworkChangedEvent;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+import lk.artify.backend.util.StreamingQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps ArtworkSearchIndex and ArtworkFacetIndex in step with the art_work table. All index writes
+ * run on one thread: a full rebuild at startup (and when too many stale
+ * ordinals pile up), then one row reload per committed artwork change. Changes
+ * committed during a rebuild queue behind it and are applied to the new segment.
+ */
+@Component
+public class ArtworkIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtworkIndexer.class);
+
+    // cover image is the first in display order (position, then id), the same rule the home feed uses
+    private static final String DOCUMENT_SQL =
+            "SELECT a.id, a.artwork_name, a.artist, a.type, a.sub_type, a.description, a.price, a.selling_status, "
+                    + "a.added_date, a.approved, a.auction_id, a.seller_id, a.copy_availability, a.unit, "
+                    + "a.width_of_art, a.height_of_art, a.length_of_art, "
+                    + "i.id AS image_id, i.content_type AS image_content_type "
+                    + "FROM art_work a LEFT JOIN art_work_image i ON i.id = "
+                    + "(SELECT i2.id FROM art_work_image i2 WHERE i2.artwork_id = a.id ORDER BY i2.position, i2.id LIMIT 1)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ArtworkSearchIndex index;
+
+    @Autowired
+    private ArtworkFacetIndex facetIndex;
+
+    @Value("${artify.catalog.fetch-size:500}")
+    private int fetchSize;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "artwork-indexer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        worker.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtworkChanged(ArtworkChangedEvent event) {
+        Long id = event.getArtworkId();
+        if (id == null) {
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                if (event.getChangeType() == ArtworkChangedEvent.ChangeType.DELETED) {
+                    index.remove(id);
+                    facetIndex.remove(id);
+                } else {
+                    reindex(id);
+                }
+                if (index.needsCompaction() || facetIndex.needsCompaction()) {
+                    rebuild();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not index artwork {}: {}", id, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void reindex(long id) {
+        List<ArtworkDocument> rows = jdbcTemplate.query(DOCUMENT_SQL + " WHERE a.id = ?",
+                (rs, rowNum) -> toDocument(rs), id);
+        if (rows.isEmpty()) {
+            index.remove(id);
+            facetIndex.remove(id);
+        } else {
+            index.put(rows.get(0));
+            facetIndex.put(rows.get(0));
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            ArtworkSearchIndex.Segment segment = new ArtworkSearchIndex.Segment();
+            ArtworkFacetIndex.Segment facets = new ArtworkFacetIndex.Segment();
+            jdbcTemplate.query(con -> StreamingQuery.prepare(con, DOCUMENT_SQL, fetchSize), rs -> {
+                ArtworkDocument document = toDocument(rs);
+                segment.put(document);
+                facets.append(document);
+            });
+            facets.sort();
+            index.replace(segment);
+            facetIndex.replace(facets);
+            log.info("Search and facet indexes rebuilt with {} artworks in {} ms", index.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("Search and facet index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private static ArtworkDocument toDocument(ResultSet rs) throws SQLException {
+        String status = rs.getString("selling_status");
+        Date addedDate = rs.getDate("added_date");
+        long auctionId = rs.getLong("auction_id");
+        boolean noAuction = rs.wasNull();
+        long sellerId = rs.getLong("seller_id");
+        boolean noSeller = rs.wasNull();
+        long imageId = rs.getLong("image_id");
+        boolean noImage = rs.wasNull();
+        return new ArtworkDocument(
+                rs.getLong("id"),
+                rs.getString("artwork_name"),
+                rs.getString("artist"),
+                rs.getString("type"),
+                rs.getString("sub_type"),
+                rs.getString("description"),
+                rs.getBigDecimal("price"),
+                status != null ? SellingStatus.valueOf(status) : null,
+                addedDate != null ? addedDate.toLocalDate() : null,
+                rs.getBoolean("approved"),
+                noAuction ? null : auctionId,
+                noSeller ? null : sellerId,
+                noImage ? null : imageId,
+                rs.getString("image_content_type"),
+                rs.getBoolean("copy_availability"),
+                rs.getString("unit"),
+                nullableInt(rs, "width_of_art"),
+                nullableInt(rs, "height_of_art"),
+                nullableInt(rs, "length_of_art"));
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
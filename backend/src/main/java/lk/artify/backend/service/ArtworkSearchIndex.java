@@ -0,0 +1,234 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import lk.artify.backend.dto.ArtworkSearchPageDTO;
+import lk.artify.backend.util.TextAnalyzer;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over artwork name, artist, type, subType and
+ * description, ranked with BM25 using per-field weights.
+ *
+ * Documents get a dense ordinal; an update deletes the old ordinal and appends
+ * a new one, so stale postings pile up until ArtworkIndexer rebuilds the
+ * whole segment and swaps it in.
+ */
+@Service
+public class ArtworkSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float ARTIST_WEIGHT = 2f;
+    private static final float TYPE_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // the last query term also matches terms it is a prefix of, at a discount
+    private static final int MAX_PREFIX_EXPANSIONS = 16;
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private static final Comparator<ArtworkDocument> NEWEST_FIRST = Comparator
+            .comparing(ArtworkDocument::addedDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(ArtworkDocument::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    public void put(ArtworkDocument document) {
+        lock.writeLock().lock();
+        try {
+            segment.put(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long artworkId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(artworkId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replace(Segment rebuilt) {
+        lock.writeLock().lock();
+        try {
+            segment = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // true once deleted ordinals outnumber live ones
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return segment.deleted > Math.max(1000, segment.live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ArtworkSearchPageDTO search(String query, int page, int size) {
+        List<String> terms = TextAnalyzer.analyze(query);
+        if (terms.isEmpty()) {
+            return new ArtworkSearchPageDTO(List.of(), 0, page, size);
+        }
+        boolean expandLast = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            Segment s = segment;
+            float[] scores = new float[s.docs.size()];
+            BitSet matched = new BitSet(scores.length);
+            double avgLength = s.live == 0 ? 1 : s.totalLength / s.live;
+
+            for (int t = 0; t < terms.size(); t++) {
+                String term = terms.get(t);
+                s.score(s.postings.get(term), 1f, avgLength, scores, matched);
+                if (expandLast && t == terms.size() - 1) {
+                    int expanded = 0;
+                    for (Map.Entry<String, Postings> e : s.postings.tailMap(term, false).entrySet()) {
+                        if (!e.getKey().startsWith(term) || expanded++ >= MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                        s.score(e.getValue(), PREFIX_BOOST, avgLength, scores, matched);
+                    }
+                }
+            }
+
+            int total = matched.cardinality();
+            int wanted = Math.min(total, page * size + size);
+            Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(ord -> scores[ord])
+                    .thenComparing(ord -> s.docs.get(ord).document, NEWEST_FIRST);
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, wanted), ranking);
+            for (int ord = matched.nextSetBit(0); ord >= 0 && wanted > 0; ord = matched.nextSetBit(ord + 1)) {
+                if (top.size() < wanted) {
+                    top.add(ord);
+                } else if (ranking.compare(ord, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ord);
+                }
+            }
+
+            Integer[] ranked = top.toArray(new Integer[0]);
+            Arrays.sort(ranked, ranking.reversed());
+            List<ArtworkHomeDTO> items = new ArrayList<>(size);
+            for (int i = page * size; i < ranked.length; i++) {
+                items.add(s.docs.get(ranked[i]).card);
+            }
+            return new ArtworkSearchPageDTO(items, total, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static final class Segment {
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        // indexed by ordinal; null once the document is deleted or replaced
+        private final List<Doc> docs = new ArrayList<>();
+        private final TreeMap<String, Postings> postings = new TreeMap<>();
+        private double totalLength;
+        private int live;
+        private int deleted;
+
+        void put(ArtworkDocument document) {
+            remove(document.id());
+            Map<String, Float> frequencies = new HashMap<>();
+            float length = addField(frequencies, document.artworkName(), NAME_WEIGHT)
+                    + addField(frequencies, document.artist(), ARTIST_WEIGHT)
+                    + addField(frequencies, document.type(), TYPE_WEIGHT)
+                    + addField(frequencies, document.subType(), TYPE_WEIGHT)
+                    + addField(frequencies, document.description(), DESCRIPTION_WEIGHT);
+
+            int ordinal = docs.size();
+            docs.add(new Doc(document, document.toCard(), length));
+            ordinals.put(document.id(), ordinal);
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, k -> new Postings()).add(ordinal, tf));
+            totalLength += length;
+            live++;
+        }
+
+        void remove(long artworkId) {
+            Integer ordinal = ordinals.remove(artworkId);
+            if (ordinal == null) {
+                return;
+            }
+            Doc doc = docs.set(ordinal, null);
+            totalLength -= doc.length;
+            live--;
+            deleted++;
+        }
+
+        private void score(Postings p, float boost, double avgLength, float[] scores, BitSet matched) {
+            if (p == null) {
+                return;
+            }
+            double idf = Math.log(1 + (live - p.size + 0.5) / (p.size + 0.5));
+            for (int i = 0; i < p.size; i++) {
+                int ord = p.ordinals[i];
+                Doc doc = docs.get(ord);
+                if (doc == null) {
+                    continue;
+                }
+                float tf = p.frequencies[i];
+                double norm = K1 * (1 - B + B * doc.length / avgLength);
+                scores[ord] += (float) (boost * idf * tf * (K1 + 1) / (tf + norm));
+                matched.set(ord);
+            }
+        }
+
+        private static float addField(Map<String, Float> frequencies, String text, float weight) {
+            List<String> terms = TextAnalyzer.analyze(text);
+            for (String term : terms) {
+                frequencies.merge(term, weight, Float::sum);
+            }
+            return terms.size() * weight;
+        }
+    }
+
+    private record Doc(ArtworkDocument document, ArtworkHomeDTO card, float length) {
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
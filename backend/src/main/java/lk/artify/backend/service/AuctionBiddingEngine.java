@@ -0,0 +1,503 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.dto.AuctionDeltaDTO;
+import lk.artify.backend.dto.AuctionEventDTO;
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.dto.BidResultDTO;
+import lk.artify.backend.dto.BidResultDTO.Outcome;
+import lk.artify.backend.event.AuctionBidEvent;
+import lk.artify.backend.util.MaxBidHeap;
+import lk.artify.backend.util.WriteAheadLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Places bids against in-memory auction state. Auctions are sharded by id
+ * across single-threaded loops, so each auction has exactly one writer and
+ * validation (start and end time, current high, minimum increment) takes no
+ * locks and no database round trip.
+ *
+ * A shard drains its queue in batches. Accepted bids go to the shard's
+ * write-ahead log, one fsync covers the batch, and only then are callers
+ * answered and the bids handed to BidPersister for the database. On startup
+ * each log is replayed into the bid table before any bid is taken. Every
+ * durable bid is then published as an AuctionBidEvent.
+ *
+ * Proxy bids are held per auction in a heap of maximums. A bid against a
+ * standing maximum is resolved in one step: the new price is whatever the
+ * second-highest maximum forces, capped by the highest, and only that price
+ * is written, not the back-and-forth that would lead to it. A maximum is
+ * logged to the write-ahead log ahead of the step it causes and reaches
+ * proxy_bid through BidPersister, like the bids, so it survives a restart
+ * without the shard waiting on the database.
+ *
+ * Every bid and the close advance the auction's sequence number, and the last
+ * event-buffer events are kept in a ring per auction, so a reconnecting
+ * client can ask for what it missed instead of reloading the auction.
+ *
+ * State is loaded from the database, maximums included, in one query the
+ * first time a shard sees an auction and is authoritative from then on, so
+ * auctions must not be edited while they take bids.
+ */
+@Service
+@ConditionalOnProperty(name = "artify.auctions.bidding", havingValue = "engine", matchIfMissing = true)
+public class AuctionBiddingEngine implements BidService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionBiddingEngine.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BidPersister persister;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidIncrements increments;
+    private final Path walDir;
+    private final int batchSize;
+    private final long walMaxBytes;
+    private final int eventBuffer;
+    private final Shard[] shards;
+
+    private volatile boolean ready;
+
+    public AuctionBiddingEngine(JdbcTemplate jdbcTemplate, BidPersister persister,
+                                ApplicationEventPublisher eventPublisher, BidIncrements increments,
+                                @Value("${artify.auctions.engine.shards:4}") int shardCount,
+                                @Value("${artify.auctions.engine.queue-capacity:65536}") int queueCapacity,
+                                @Value("${artify.auctions.engine.batch-size:256}") int batchSize,
+                                @Value("${artify.auctions.wal.dir:data/auction-wal}") String walDir,
+                                @Value("${artify.auctions.wal.max-bytes:67108864}") long walMaxBytes,
+                                @Value("${artify.auctions.engine.event-buffer:128}") int eventBuffer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.persister = persister;
+        this.eventPublisher = eventPublisher;
+        this.increments = increments;
+        this.walDir = Path.of(walDir);
+        this.batchSize = Math.max(1, batchSize);
+        this.walMaxBytes = walMaxBytes;
+        this.eventBuffer = Math.max(1, eventBuffer);
+        this.shards = new Shard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i, Math.max(1, queueCapacity));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (ready) {
+            return;
+        }
+        try {
+            int backfilled = AuctionState.backfill(jdbcTemplate);
+            if (backfilled > 0) {
+                log.info("Backfilled bid counts for {} auctions", backfilled);
+            }
+            for (Shard shard : shards) {
+                shard.recover();
+            }
+        } catch (IOException | RuntimeException e) {
+            // without a replayed log the in-memory state could run behind the accepted bids
+            log.error("Auction write-ahead log recovery failed; bidding stays disabled: {}", e.getMessage());
+            return;
+        }
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+        ready = true;
+        log.info("Auction bidding engine started with {} shards", shards.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ready = false;
+        for (Shard shard : shards) {
+            shard.running = false;
+        }
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    @Override
+    public CompletableFuture<BidResultDTO> placeBid(long auctionId, long userId, long amountCents) {
+        CompletableFuture<BidResultDTO> future = new CompletableFuture<>();
+        if (!ready || !shardFor(auctionId).offer(new Task(future,
+                shard -> shard.reply(future, shard.bid(auctionId, userId, amountCents))))) {
+            future.complete(new BidResultDTO(Outcome.UNAVAILABLE, null));
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<BidResultDTO> placeProxyBid(long auctionId, long userId, long maxCents) {
+        CompletableFuture<BidResultDTO> future = new CompletableFuture<>();
+        if (!ready || !shardFor(auctionId).offer(new Task(future,
+                shard -> shard.reply(future, shard.proxyBid(auctionId, userId, maxCents))))) {
+            future.complete(new BidResultDTO(Outcome.UNAVAILABLE, null));
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Optional<AuctionStateDTO>> state(long auctionId) {
+        CompletableFuture<Optional<AuctionStateDTO>> future = new CompletableFuture<>();
+        if (!ready || !shardFor(auctionId).offer(new Task(future, shard -> {
+            AuctionState state = shard.load(auctionId);
+            shard.reply(future, Optional.ofNullable(state != null ? increments.toDto(state) : null));
+        }))) {
+            future.completeExceptionally(new IllegalStateException("Bidding engine unavailable"));
+        }
+        return future;
+    }
+
+    // bids queued ahead of the close still count
+    @Override
+    public CompletableFuture<Optional<AuctionStateDTO>> close(long auctionId) {
+        CompletableFuture<Optional<AuctionStateDTO>> future = new CompletableFuture<>();
+        if (!ready || !shardFor(auctionId).offer(new Task(future, shard -> {
+            AuctionState state = shard.load(auctionId);
+            if (state != null && !state.closed) {
+                state.closed = true;
+                shard.events(state).closed(state.sequence(), state.currentCents, state.leaderUserId,
+                        System.currentTimeMillis());
+                shard.raised.put(auctionId, state);
+            }
+            shard.reply(future, Optional.ofNullable(state != null ? increments.toDto(state) : null));
+        }))) {
+            future.completeExceptionally(new IllegalStateException("Bidding engine unavailable"));
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Optional<AuctionDeltaDTO>> events(long auctionId, long afterSequence) {
+        CompletableFuture<Optional<AuctionDeltaDTO>> future = new CompletableFuture<>();
+        if (!ready || !shardFor(auctionId).offer(new Task(future, shard -> {
+            AuctionState state = shard.load(auctionId);
+            if (state == null) {
+                shard.reply(future, Optional.<AuctionDeltaDTO>empty());
+                return;
+            }
+            long latest = state.sequence();
+            List<AuctionEventDTO> events = state.events != null
+                    ? state.events.after(afterSequence, latest)
+                    : afterSequence == latest ? List.of() : null;
+            shard.reply(future, Optional.of(new AuctionDeltaDTO(auctionId, afterSequence, latest,
+                    events != null, events != null ? events : List.of())));
+        }))) {
+            future.completeExceptionally(new IllegalStateException("Bidding engine unavailable"));
+        }
+        return future;
+    }
+
+    // a settled auction is reloaded, closed, if it is asked for again
+    @Override
+    public void evict(long auctionId) {
+        Shard shard = shardFor(auctionId);
+        shard.offer(new Task(new CompletableFuture<Void>(), s -> s.auctions.remove(auctionId)));
+    }
+
+    private Shard shardFor(long auctionId) {
+        return shards[(int) Math.floorMod(auctionId, (long) shards.length)];
+    }
+
+    // future is failed if the shard stops before running the task
+    private record Task(CompletableFuture<?> future, Consumer<Shard> body) {
+    }
+
+    private record Reply<T>(CompletableFuture<T> future, T value) {
+    }
+
+    private final class Shard implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<Task> queue;
+        private final Thread thread;
+        private final Map<Long, AuctionState> auctions = new HashMap<>();
+        private final List<WriteAheadLog.Record> unsynced = new ArrayList<>();
+        private final Map<Long, AuctionState> raised = new HashMap<>();
+        private final List<Reply<?>> replies = new ArrayList<>();
+
+        private WriteAheadLog wal;
+        private long nextSequence;
+        // completes when everything handed to the persister so far is committed
+        private CompletableFuture<Void> persisted = CompletableFuture.completedFuture(null);
+        private volatile boolean running = true;
+        private volatile boolean failed;
+
+        Shard(int index, int queueCapacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "auction-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void recover() throws IOException {
+            wal = WriteAheadLog.open(walDir.resolve("shard-" + index + ".wal"), batchSize);
+            List<WriteAheadLog.Record> records = wal.recovered();
+            persister.recover(index, records);
+            long last = records.isEmpty() ? 0 : records.get(records.size() - 1).sequence();
+            nextSequence = Math.max(last, persister.watermark(index)) + 1;
+            wal.truncate();
+        }
+
+        boolean offer(Task task) {
+            return running && !failed && queue.offer(task);
+        }
+
+        <T> void reply(CompletableFuture<T> future, T value) {
+            replies.add(new Reply<>(future, value));
+        }
+
+        AuctionState load(long auctionId) {
+            AuctionState state = auctions.get(auctionId);
+            if (state == null) {
+                state = AuctionState.loadWithMaximums(jdbcTemplate, auctionId);
+                if (state != null) {
+                    auctions.put(auctionId, state);
+                }
+            }
+            return state;
+        }
+
+        BidResultDTO bid(long auctionId, long userId, long amountCents) {
+            if (failed) {
+                return new BidResultDTO(Outcome.UNAVAILABLE, null);
+            }
+            AuctionState state = load(auctionId);
+            if (state == null) {
+                return new BidResultDTO(Outcome.AUCTION_NOT_FOUND, null);
+            }
+            long now = System.currentTimeMillis();
+            Outcome outcome = validate(state, userId, now);
+            if (outcome == null && amountCents < increments.minimumNextCents(state.currentCents, state.minimumBidCents)) {
+                outcome = Outcome.TOO_LOW;
+            }
+            if (outcome == null) {
+                if (state.proxies == null) {
+                    step(state, userId, amountCents, now);
+                    outcome = Outcome.ACCEPTED;
+                } else {
+                    // a plain bid enters the heap at its own amount, the most that bidder has offered
+                    state.proxies.raise(userId, amountCents);
+                    outcome = resolve(state, userId, amountCents, now);
+                }
+            }
+            return new BidResultDTO(outcome, increments.toDto(state));
+        }
+
+        BidResultDTO proxyBid(long auctionId, long userId, long maxCents) {
+            if (failed) {
+                return new BidResultDTO(Outcome.UNAVAILABLE, null);
+            }
+            AuctionState state = load(auctionId);
+            if (state == null) {
+                return new BidResultDTO(Outcome.AUCTION_NOT_FOUND, null);
+            }
+            long now = System.currentTimeMillis();
+            Outcome outcome = validate(state, userId, now);
+            if (outcome == null) {
+                boolean leading = state.leaderUserId != null && state.leaderUserId == userId;
+                long held = state.proxies != null ? state.proxies.maximum(userId) : -1;
+                // the leader may only raise; anyone else has to reach the next bid
+                long floor = leading ? Math.max(state.currentCents, held) + 1
+                        : increments.minimumNextCents(state.currentCents, state.minimumBidCents);
+                if (maxCents < floor) {
+                    outcome = Outcome.TOO_LOW;
+                }
+            }
+            if (outcome != null) {
+                return new BidResultDTO(outcome, increments.toDto(state));
+            }
+            if (state.maximums().raise(userId, maxCents)) {
+                append(WriteAheadLog.MAX_BID, auctionId, userId, maxCents, now);
+            }
+            return new BidResultDTO(resolve(state, userId, -1, now), increments.toDto(state));
+        }
+
+        // null when the auction takes bids from this user right now
+        private Outcome validate(AuctionState state, long userId, long now) {
+            if (now < state.startsAtMillis) {
+                return Outcome.NOT_STARTED;
+            }
+            if (state.closed || now >= state.endsAtMillis) {
+                return Outcome.ENDED;
+            }
+            if (state.sellerUserId != null && state.sellerUserId == userId) {
+                return Outcome.OWN_AUCTION;
+            }
+            return null;
+        }
+
+        /*
+         * Settles the price after userId's entry in the heap changed. A plain bid
+         * passes its amount, which becomes the price if it leads; a maximum
+         * passes -1 and is only spent as far as the competition requires. The
+         * top of the heap leads. If it already led, it answers the challenger's
+         * bid with one increment; a new leader pays one increment over the
+         * runner-up's maximum. Either way the price is capped by the top maximum
+         * and at most one step is logged.
+         */
+        private Outcome resolve(AuctionState state, long userId, long plainCents, long now) {
+            MaxBidHeap proxies = state.proxies;
+            long top = proxies.topUser();
+            long topMax = proxies.topAmount();
+            boolean defended = state.leaderUserId != null && state.leaderUserId == top;
+            long price;
+            if (defended && top == userId) {
+                // the leader raised a maximum, or outbid itself with a plain bid
+                price = plainCents > 0 ? plainCents : state.currentCents;
+            } else if (defended) {
+                long challenge = plainCents > 0 ? plainCents : proxies.maximum(userId);
+                price = Math.min(topMax, challenge + increments.increment(challenge));
+            } else if (top == userId && plainCents > 0) {
+                price = plainCents;
+            } else {
+                long second = proxies.secondAmount();
+                long wanted = second >= 0 ? second + increments.increment(second) : 0;
+                price = Math.min(topMax, Math.max(wanted,
+                        increments.minimumNextCents(state.currentCents, state.minimumBidCents)));
+            }
+            if (price > state.currentCents) {
+                step(state, top, price, now);
+            }
+            return state.leaderUserId != null && state.leaderUserId == userId ? Outcome.ACCEPTED : Outcome.OUTBID;
+        }
+
+        private void step(AuctionState state, long userId, long amountCents, long now) {
+            append(WriteAheadLog.BID, state.auctionId, userId, amountCents, now);
+            state.currentCents = amountCents;
+            state.leaderUserId = userId;
+            state.bidCount++;
+            events(state).bid(state.sequence(), amountCents, userId, now);
+            raised.put(state.auctionId, state);
+        }
+
+        AuctionEventRing events(AuctionState state) {
+            if (state.events == null) {
+                state.events = new AuctionEventRing(eventBuffer);
+            }
+            return state.events;
+        }
+
+        private void append(byte type, long auctionId, long userId, long amountCents, long now) {
+            WriteAheadLog.Record record = new WriteAheadLog.Record(nextSequence++, type, auctionId, userId, amountCents, now);
+            wal.append(record);
+            unsynced.add(record);
+        }
+
+        @Override
+        public void run() {
+            List<Task> batch = new ArrayList<>(batchSize);
+            while (running) {
+                try {
+                    Task first = queue.poll(200, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        compactLog();
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    for (Task task : batch) {
+                        try {
+                            task.body().accept(this);
+                        } catch (RuntimeException e) {
+                            log.warn("Auction shard {} task failed: {}", index, e.getMessage());
+                            task.future().completeExceptionally(e);
+                        }
+                    }
+                    batch.clear();
+                    flush();
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+            }
+        }
+
+        // answers callers only once the batch's bids are on disk
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void flush() {
+            if (!unsynced.isEmpty()) {
+                try {
+                    wal.sync();
+                } catch (IOException e) {
+                    // accepted bids are in memory but not durable; stop taking bids until restart
+                    failed = true;
+                    log.error("Auction shard {} could not sync its write-ahead log: {}", index, e.getMessage());
+                    for (Reply<?> reply : replies) {
+                        reply.future().completeExceptionally(e);
+                    }
+                    replies.clear();
+                    unsynced.clear();
+                    raised.clear();
+                    return;
+                }
+                persisted = persister.enqueue(index, List.copyOf(unsynced));
+                unsynced.clear();
+            }
+            for (Reply reply : replies) {
+                reply.future().complete(reply.value());
+            }
+            replies.clear();
+            // one event per auction per batch: only its latest state matters to watchers
+            for (AuctionState state : raised.values()) {
+                try {
+                    eventPublisher.publishEvent(new AuctionBidEvent(increments.toDto(state)));
+                } catch (RuntimeException e) {
+                    log.warn("Auction bid listener failed for auction {}: {}", state.auctionId, e.getMessage());
+                }
+            }
+            raised.clear();
+            compactLog();
+        }
+
+        // the log is only cleared when the persister has caught up with everything in it
+        private void compactLog() {
+            try {
+                if (!failed && wal.size() >= walMaxBytes && persisted.isDone() && !persisted.isCompletedExceptionally()) {
+                    wal.truncate();
+                }
+            } catch (IOException e) {
+                log.warn("Auction shard {} could not truncate its write-ahead log: {}", index, e.getMessage());
+            }
+        }
+
+        void stop() {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            IllegalStateException stopped = new IllegalStateException("Bidding engine stopped");
+            List<Task> left = new ArrayList<>();
+            queue.drainTo(left);
+            left.forEach(task -> task.future().completeExceptionally(stopped));
+            replies.forEach(reply -> reply.future().completeExceptionally(stopped));
+            try {
+                if (wal != null) {
+                    wal.close();
+                }
+            } catch (IOException e) {
+                log.warn("Auction shard {} could not close its write-ahead log: {}", index, e.getMessage());
+            }
+        }
+    }
+}
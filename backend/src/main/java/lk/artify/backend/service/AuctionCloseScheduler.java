@@ -0,0 +1,204 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.util.HierarchicalTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes auctions when their end time passes. Open auctions are loaded into a
+ * timing wheel at startup, and auctions created later are picked up by a
+ * periodic scan for new ids. When an auction's second is up, the bid service
+ * closes it and hands back the final state, and the settlement service turns
+ * that into sales and orders.
+ *
+ * Expired auctions are settled in batches, one transaction per batch, on a
+ * single thread, so a wave of auctions ending together costs a few commits
+ * rather than one each. A batch that fails is retried auction by auction,
+ * and any auction that still fails is rescheduled.
+ */
+@Service
+public class AuctionCloseScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionCloseScheduler.class);
+
+    private static final String OPEN_AUCTIONS_SQL =
+            "SELECT id, end_date_time FROM auction WHERE closed = false AND id > ? ORDER BY id";
+
+    private record Deadline(long auctionId, long endsAtMillis) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BidService bidService;
+    private final AuctionSettlementService settlementService;
+    private final long tickMillis;
+    private final int batchSize;
+    private final long rescanMinutes;
+    private final long retryMillis;
+
+    // owned by the timer thread
+    private final HierarchicalTimingWheel<Long> wheel;
+    private long lastScannedId;
+
+    private final Queue<Deadline> incoming = new ConcurrentLinkedQueue<>();
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auction-close-timer");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ExecutorService settler = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "auction-settler");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AuctionCloseScheduler(JdbcTemplate jdbcTemplate, BidService bidService,
+                                 AuctionSettlementService settlementService,
+                                 @Value("${artify.auctions.close.tick-millis:1000}") long tickMillis,
+                                 @Value("${artify.auctions.close.batch-size:100}") int batchSize,
+                                 @Value("${artify.auctions.close.rescan-minutes:5}") long rescanMinutes,
+                                 @Value("${artify.auctions.close.retry-seconds:60}") long retrySeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bidService = bidService;
+        this.settlementService = settlementService;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.rescanMinutes = Math.max(1, rescanMinutes);
+        this.retryMillis = TimeUnit.SECONDS.toMillis(Math.max(1, retrySeconds));
+        // 60 ticks, 60 minutes, 60 hours and 150 days of a 1 s tick; later deadlines park and cascade
+        this.wheel = new HierarchicalTimingWheel<>(this.tickMillis, 60, 4, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        timer.execute(this::scanOpenAuctions);
+        timer.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(this::scanOpenAuctions, rescanMinutes, rescanMinutes, TimeUnit.MINUTES);
+    }
+
+    /** Schedules an auction's close; a no-op if it is already scheduled. */
+    public void schedule(long auctionId, long endsAtMillis) {
+        if (scheduled.add(auctionId)) {
+            incoming.add(new Deadline(auctionId, endsAtMillis));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        settler.shutdownNow();
+    }
+
+    private void scanOpenAuctions() {
+        try {
+            jdbcTemplate.query(OPEN_AUCTIONS_SQL, rs -> {
+                long id = rs.getLong("id");
+                Timestamp end = rs.getTimestamp("end_date_time");
+                lastScannedId = Math.max(lastScannedId, id);
+                if (end != null) {
+                    schedule(id, end.toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            }, lastScannedId);
+        } catch (RuntimeException e) {
+            log.warn("Scanning for open auctions failed: {}", e.getMessage());
+        }
+    }
+
+    private void tick() {
+        try {
+            Deadline deadline;
+            while ((deadline = incoming.poll()) != null) {
+                wheel.schedule(deadline.auctionId(), deadline.endsAtMillis());
+            }
+            List<Long> due = new ArrayList<>();
+            wheel.advance(System.currentTimeMillis(), due::add);
+            for (int from = 0; from < due.size(); from += batchSize) {
+                List<Long> batch = List.copyOf(due.subList(from, Math.min(due.size(), from + batchSize)));
+                settler.execute(() -> settle(batch));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Auction close tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void settle(List<Long> auctionIds) {
+        // every close is queued before any is awaited, so the shards work through them in parallel
+        List<CompletableFuture<Optional<AuctionStateDTO>>> closing = new ArrayList<>(auctionIds.size());
+        for (Long auctionId : auctionIds) {
+            try {
+                closing.add(bidService.close(auctionId));
+            } catch (RuntimeException e) {
+                closing.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<AuctionStateDTO> finalStates = new ArrayList<>(auctionIds.size());
+        for (int i = 0; i < auctionIds.size(); i++) {
+            long auctionId = auctionIds.get(i);
+            try {
+                Optional<AuctionStateDTO> state = closing.get(i)
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (state.isPresent()) {
+                    finalStates.add(state.get());
+                } else {
+                    scheduled.remove(auctionId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                retry(auctionId);
+            }
+        }
+        if (finalStates.isEmpty()) {
+            return;
+        }
+        try {
+            int settled = settlementService.settle(finalStates);
+            finalStates.forEach(this::settled);
+            log.info("Settled {} of {} closed auctions", settled, finalStates.size());
+        } catch (RuntimeException e) {
+            log.warn("Settling a batch of {} auctions failed, settling one by one: {}", finalStates.size(), e.getMessage());
+            for (AuctionStateDTO state : finalStates) {
+                try {
+                    settlementService.settle(List.of(state));
+                    settled(state);
+                } catch (RuntimeException single) {
+                    log.warn("Settling auction {} failed: {}", state.getAuctionId(), single.getMessage());
+                    retry(state.getAuctionId());
+                }
+            }
+        }
+    }
+
+    private void settled(AuctionStateDTO state) {
+        bidService.evict(state.getAuctionId());
+        scheduled.remove(state.getAuctionId());
+    }
+
+    private void retry(long auctionId) {
+        incoming.add(new Deadline(auctionId, System.currentTimeMillis() + retryMillis));
+    }
+}
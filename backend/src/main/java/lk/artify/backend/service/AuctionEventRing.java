@@ -0,0 +1,81 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.AuctionEventDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The most recent events of one auction, in a fixed ring of primitive
+ * arrays. Sequence numbers are contiguous, so only the oldest one is stored
+ * and a slot's sequence follows from its distance to it. Owned by the shard
+ * thread, like the AuctionState it belongs to.
+ */
+final class AuctionEventRing {
+
+    private static final byte BID = 0;
+    private static final byte CLOSED = 1;
+
+    private final long[] amounts;
+    private final long[] leaders;
+    private final long[] times;
+    private final byte[] types;
+    // sequence of the oldest event held, and how many are held
+    private long first;
+    private int size;
+
+    AuctionEventRing(int capacity) {
+        this.amounts = new long[capacity];
+        this.leaders = new long[capacity];
+        this.times = new long[capacity];
+        this.types = new byte[capacity];
+    }
+
+    void bid(long sequence, long amountCents, long leaderUserId, long timeMillis) {
+        add(sequence, BID, amountCents, leaderUserId, timeMillis);
+    }
+
+    void closed(long sequence, long amountCents, Long leaderUserId, long timeMillis) {
+        add(sequence, CLOSED, amountCents, leaderUserId != null ? leaderUserId : -1, timeMillis);
+    }
+
+    /**
+     * Events after the given sequence up to the latest one, or null when the
+     * ring no longer reaches back that far.
+     */
+    List<AuctionEventDTO> after(long sequence, long latest) {
+        if (sequence == latest) {
+            return List.of();
+        }
+        if (size == 0 || sequence < first - 1 || sequence > latest) {
+            return null;
+        }
+        List<AuctionEventDTO> events = new ArrayList<>((int) (latest - sequence));
+        for (long s = sequence + 1; s <= latest; s++) {
+            int slot = (int) Math.floorMod(s, (long) amounts.length);
+            events.add(new AuctionEventDTO(s,
+                    types[slot] == CLOSED ? AuctionEventDTO.Type.CLOSED : AuctionEventDTO.Type.BID,
+                    amounts[slot] > 0 ? BigDecimal.valueOf(amounts[slot], 2) : null,
+                    leaders[slot] >= 0 ? leaders[slot] : null,
+                    BidPersister.toLocalDateTime(times[slot])));
+        }
+        return events;
+    }
+
+    private void add(long sequence, byte type, long amountCents, long leaderUserId, long timeMillis) {
+        if (size == 0) {
+            first = sequence;
+        }
+        int slot = (int) Math.floorMod(sequence, (long) amounts.length);
+        amounts[slot] = amountCents;
+        leaders[slot] = leaderUserId;
+        times[slot] = timeMillis;
+        types[slot] = type;
+        if (size < amounts.length) {
+            size++;
+        } else {
+            first++;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.model.ArtWork;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+import lk.artify.backend.model.Auction;
+import lk.artify.backend.model.Order;
+import lk.artify.backend.model.Sale;
+import lk.artify.backend.model.Seller;
+import lk.artify.backend.model.User;
+import lk.artify.backend.repository.AuctionRepository;
+import lk.artify.backend.repository.OrderRepository;
+import lk.artify.backend.repository.SaleRepository;
+import lk.artify.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Turns closed auctions into sales. The winning bid buys the whole lot: each
+ * artwork gets a Sale and an Order for an equal share of the amount and is
+ * marked SOLD_OUT. Artworks from auctions without bids go back to the
+ * catalogue as AVAILABLE. Already-closed auctions are skipped, so a batch can
+ * safely be retried.
+ */
+@Service
+public class AuctionSettlementService {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /** Settles every auction in one transaction and returns how many were settled. */
+    @Transactional
+    public int settle(Collection<AuctionStateDTO> finalStates) {
+        int settled = 0;
+        for (AuctionStateDTO state : finalStates) {
+            if (settleOne(state)) {
+                settled++;
+            }
+        }
+        return settled;
+    }
+
+    private boolean settleOne(AuctionStateDTO state) {
+        Auction auction = auctionRepository.findById(state.getAuctionId()).orElse(null);
+        if (auction == null || auction.isClosed()) {
+            return false;
+        }
+        auction.setClosed(true);
+        List<ArtWork> artworks = auction.getArtworks() != null ? auction.getArtworks() : List.of();
+        if (state.getLeaderUserId() == null || state.getCurrentBid() == null) {
+            for (ArtWork artwork : artworks) {
+                artwork.setAuction(null);
+                artwork.setSellingStatus(SellingStatus.AVAILABLE);
+            }
+            return true;
+        }
+
+        auction.setCurrentBid(state.getCurrentBid().doubleValue());
+        User winner = userRepository.getReferenceById(state.getLeaderUserId());
+        BigDecimal[] shares = split(state.getCurrentBid(), artworks.size());
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < artworks.size(); i++) {
+            ArtWork artwork = artworks.get(i);
+            Seller seller = artwork.getSeller() != null ? artwork.getSeller() : auction.getSeller();
+
+            Sale sale = new Sale();
+            sale.setSeller(seller);
+            sale.setUser(winner);
+            sale.setArtwork(artwork);
+            sale.setSellingType(Sale.SellingType.AUCTION);
+            sale.setIncome(shares[i]);
+            sale.setPendingIncome(true);
+            sale.setDate(today);
+            saleRepository.save(sale);
+
+            Order order = new Order();
+            order.setSeller(seller);
+            order.setUser(winner);
+            order.setArtwork(artwork);
+            order.setSales(sale);
+            order.setQuantity(1);
+            order.setSellingType(Order.SellingType.AUCTION);
+            order.setDate(today);
+            order.setDeliveryStatus(Order.DeliveryStatus.PENDING_DELIVERY);
+            order.setTotalPrice(shares[i]);
+            order.setPaid(false);
+            orderRepository.save(order);
+
+            artwork.setCurrentBid(state.getCurrentBid());
+            artwork.setSellingStatus(SellingStatus.SOLD_OUT);
+        }
+        return true;
+    }
+
+    // equal shares to the cent; the first artworks absorb the remainder
+    static BigDecimal[] split(BigDecimal amount, int parts) {
+        BigDecimal[] shares = new BigDecimal[parts];
+        if (parts == 0) {
+            return shares;
+        }
+        long cents = amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+        long base = cents / parts;
+        long remainder = cents % parts;
+        for (int i = 0; i < parts; i++) {
+            shares[i] = BigDecimal.valueOf(base + (i < remainder ? 1 : 0), 2);
+        }
+        return shares;
+    }
+}
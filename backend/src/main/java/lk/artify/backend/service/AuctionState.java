@@ -0,0 +1,145 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.util.MaxBidHeap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Bidding state of one auction. In the engine it is owned by a single shard
+ * thread, so fields are plain and unsynchronized. Amounts are in cents.
+ */
+final class AuctionState {
+
+    private static final String SELECT =
+            "SELECT a.start_date_time, a.end_date_time, a.minimum_bid, a.current_bid, a.closed, a.bid_count, "
+                    + "a.leader_user_id, s.user_id AS seller_user_id";
+    private static final String FROM = " FROM auction a LEFT JOIN sellers s ON s.seller_id = a.seller_id";
+    private static final String SELECT_SQL = SELECT + FROM + " WHERE a.id = ?";
+    // one row per standing maximum, oldest first, so equal maximums keep their order in the rebuilt heap
+    private static final String SELECT_WITH_MAXIMUMS_SQL =
+            SELECT + ", p.user_id AS max_user_id, p.max_amount" + FROM
+                    + " LEFT JOIN proxy_bid p ON p.auction_id = a.id WHERE a.id = ? ORDER BY p.updated_at, p.id";
+    // fills bid_count and leader_user_id for auctions bid on before the columns existed;
+    // the leader is the earliest of the highest bids
+    private static final String BACKFILL_SQL =
+            "UPDATE auction a SET "
+                    + "bid_count = (SELECT COUNT(*) FROM bid b WHERE b.auction_id = a.id), "
+                    + "leader_user_id = (SELECT b.user_id FROM bid b WHERE b.auction_id = a.id "
+                    + "ORDER BY b.bid_amount DESC, b.id LIMIT 1) "
+                    + "WHERE a.bid_count = 0 AND EXISTS (SELECT 1 FROM bid b WHERE b.auction_id = a.id)";
+
+    final long auctionId;
+    final Long sellerUserId;
+    final long startsAtMillis;
+    final long endsAtMillis;
+    final LocalDateTime endDateTime;
+    final long minimumBidCents;
+
+    long currentCents;
+    Long leaderUserId;
+    long bidCount;
+    boolean closed;
+    // standing maximums, once anyone has placed one; the leader is always on top
+    MaxBidHeap proxies;
+    // recent events for delta sync, from the first event after the state was loaded
+    AuctionEventRing events;
+
+    AuctionState(long auctionId, Long sellerUserId, long startsAtMillis, long endsAtMillis,
+                 LocalDateTime endDateTime, long minimumBidCents, long currentCents,
+                 Long leaderUserId, long bidCount, boolean closed) {
+        this.auctionId = auctionId;
+        this.sellerUserId = sellerUserId;
+        this.startsAtMillis = startsAtMillis;
+        this.endsAtMillis = endsAtMillis;
+        this.endDateTime = endDateTime;
+        this.minimumBidCents = minimumBidCents;
+        this.currentCents = currentCents;
+        this.leaderUserId = leaderUserId;
+        this.bidCount = bidCount;
+        this.closed = closed;
+    }
+
+    // the leader enters the heap at the current price, the most it is known to have offered
+    MaxBidHeap maximums() {
+        if (proxies == null) {
+            proxies = new MaxBidHeap();
+            if (leaderUserId != null) {
+                proxies.raise(leaderUserId, currentCents);
+            }
+        }
+        return proxies;
+    }
+
+    boolean hasBids() {
+        return currentCents > 0;
+    }
+
+    // one per bid plus one for the close, so it can be rebuilt from the database after a restart
+    long sequence() {
+        return bidCount + (closed ? 1 : 0);
+    }
+
+    static AuctionState load(JdbcTemplate jdbcTemplate, long auctionId) {
+        List<AuctionState> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> map(auctionId, rs), auctionId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /** The state with its standing maximums, in one query. */
+    static AuctionState loadWithMaximums(JdbcTemplate jdbcTemplate, long auctionId) {
+        ResultSetExtractor<AuctionState> extractor = rs -> {
+            AuctionState state = null;
+            while (rs.next()) {
+                if (state == null) {
+                    state = map(auctionId, rs);
+                }
+                long userId = rs.getLong("max_user_id");
+                if (!rs.wasNull()) {
+                    state.maximums().raise(userId, Math.round(rs.getDouble("max_amount") * 100));
+                }
+            }
+            return state;
+        };
+        return jdbcTemplate.query(SELECT_WITH_MAXIMUMS_SQL, extractor, auctionId);
+    }
+
+    /**
+     * Counts bids into auctions that have some but still show none. Run
+     * before bidding opens; afterwards the bid paths keep the columns current.
+     */
+    static int backfill(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+
+    private static AuctionState map(long auctionId, ResultSet rs) throws SQLException {
+        LocalDateTime start = toLocalDateTime(rs.getTimestamp("start_date_time"));
+        LocalDateTime end = toLocalDateTime(rs.getTimestamp("end_date_time"));
+        long sellerUserId = rs.getLong("seller_user_id");
+        boolean noSeller = rs.wasNull();
+        long leaderUserId = rs.getLong("leader_user_id");
+        boolean noLeader = rs.wasNull();
+        return new AuctionState(auctionId, noSeller ? null : sellerUserId,
+                start != null ? toEpochMillis(start) : Long.MIN_VALUE,
+                end != null ? toEpochMillis(end) : Long.MAX_VALUE,
+                end,
+                Math.round(rs.getDouble("minimum_bid") * 100),
+                Math.round(rs.getDouble("current_bid") * 100),
+                noLeader ? null : leaderUserId,
+                rs.getLong("bid_count"),
+                rs.getBoolean("closed"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
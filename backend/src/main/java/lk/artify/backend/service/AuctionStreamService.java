@@ -0,0 +1,330 @@
+package lk.artify.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.event.AuctionBidEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Server-sent event streams of auction state. Each event is serialized and
+ * framed once per auction, and the same bytes are written to every watcher.
+ *
+ * Writes are non-blocking (servlet WriteListener): a frame is only written
+ * while the connection accepts bytes without waiting, so no thread is ever
+ * parked on a slow client. Watchers never get a queue either. A watcher holds
+ * at most one pending bid frame and one pending countdown frame, and a newer
+ * frame replaces an unsent one, so a slow client skips intermediate updates
+ * and catches up on the latest state once its connection drains.
+ */
+@Service
+public class AuctionStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionStreamService.class);
+
+    record Countdown(long auctionId, long remainingSeconds) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong coalesced = new AtomicLong();
+    // builds frames and fans them out; writes happen on it or on container threads, never blocking
+    private final ScheduledExecutorService dispatcher;
+
+    public AuctionStreamService(ObjectMapper objectMapper,
+                                @Value("${artify.auctions.stream.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${artify.auctions.stream.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${artify.auctions.stream.tick-seconds:1}") int tickSeconds) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "auction-stream-dispatch");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, tickSeconds);
+        dispatcher.scheduleAtFixedRate(this::tick, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Turns the request into a stream that starts with the given state. False,
+     * with the response untouched, when the node already holds its maximum
+     * number of watchers.
+     */
+    public boolean subscribe(AuctionStateDTO state, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        long auctionId = state.getAuctionId();
+        long endsAt = state.getEndDateTime() != null
+                ? state.getEndDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : Long.MAX_VALUE;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        AsyncContext async = request.startAsync(request, response);
+        async.setTimeout(timeoutMillis);
+        Subscriber subscriber = new Subscriber(auctionId, async, response.getOutputStream());
+        async.addListener(subscriber);
+        subscriber.bid.set(frame("state", state));
+        channels.compute(auctionId, (id, channel) -> {
+            Channel c = channel != null ? channel : new Channel(auctionId, endsAt);
+            c.subscribers.add(subscriber);
+            return c;
+        });
+        // the container calls onWritePossible once the handler returns, which sends the state frame
+        subscriber.out.setWriteListener(subscriber);
+        subscriber.listening = true;
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "subscribers", subscriberCount.get(),
+                "auctions", channels.size(),
+                "coalescedFrames", coalesced.get());
+    }
+
+    @EventListener
+    public void onBid(AuctionBidEvent event) {
+        if (!channels.containsKey(event.getAuctionId())) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            Channel channel = channels.get(event.getAuctionId());
+            if (channel == null) {
+                return;
+            }
+            byte[] frame = frame("bid", event.getState());
+            for (Subscriber subscriber : channel.subscribers) {
+                offer(subscriber, subscriber.bid, frame);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.close();
+            }
+        }
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        for (Channel channel : channels.values()) {
+            long remaining = channel.endsAtMillis == Long.MAX_VALUE
+                    ? -1
+                    : Math.max(0, (channel.endsAtMillis - now + 999) / 1000);
+            byte[] frame = frame("countdown", new Countdown(channel.auctionId, remaining));
+            for (Subscriber subscriber : channel.subscribers) {
+                if (remaining == 0) {
+                    // the last countdown frame goes out, then the stream ends
+                    subscriber.finishing = true;
+                }
+                offer(subscriber, subscriber.tick, frame);
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, AtomicReference<byte[]> slot, byte[] frame) {
+        if (slot.getAndSet(frame) != null) {
+            coalesced.incrementAndGet();
+        }
+        if (subscriber.listening) {
+            subscriber.pump();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        channels.computeIfPresent(subscriber.auctionId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private byte[] frame(String event, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return ("event: " + event + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event: {}", event, e.getMessage());
+            return ("event: " + event + "\ndata: {}\n\n").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Channel {
+
+        private final long auctionId;
+        private final long endsAtMillis;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+        Channel(long auctionId, long endsAtMillis) {
+            this.auctionId = auctionId;
+            this.endsAtMillis = endsAtMillis;
+        }
+    }
+
+    /*
+     * One watcher's connection. Only one thread writes at a time: whoever wins
+     * the writing flag, the dispatcher offering a frame or the container
+     * reporting the connection writable again. No lock is held while calling
+     * into the container, which takes its own socket lock around
+     * onWritePossible.
+     */
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        private final long auctionId;
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final AtomicReference<byte[]> bid = new AtomicReference<>();
+        private final AtomicReference<byte[]> tick = new AtomicReference<>();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean listening;
+        private volatile boolean finishing;
+        // written since the last flush; only touched by the thread holding the writing flag
+        private boolean unflushed;
+
+        Subscriber(long auctionId, AsyncContext async, ServletOutputStream out) {
+            this.auctionId = auctionId;
+            this.async = async;
+            this.out = out;
+        }
+
+        @Override
+        public void onWritePossible() {
+            pump();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // client went away
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            unsubscribe(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        void pump() {
+            while (!removed.get() && writing.compareAndSet(false, true)) {
+                try {
+                    writePending();
+                } catch (IOException | IllegalStateException e) {
+                    // client went away
+                    writing.set(false);
+                    close();
+                    return;
+                }
+                writing.set(false);
+                // a frame, or the container's write-possible call, may have come in while the flag was held
+                if (!hasWork() || !isReady()) {
+                    return;
+                }
+            }
+        }
+
+        // writes while the connection takes bytes without blocking; isReady() false arms onWritePossible
+        private void writePending() throws IOException {
+            while (out.isReady()) {
+                byte[] frame = bid.getAndSet(null);
+                if (frame == null) {
+                    frame = tick.getAndSet(null);
+                }
+                if (frame != null) {
+                    out.write(frame);
+                    unflushed = true;
+                } else if (unflushed) {
+                    unflushed = false;
+                    out.flush();
+                } else {
+                    if (finishing) {
+                        close();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private boolean hasWork() {
+            return bid.get() != null || tick.get() != null || unflushed || finishing;
+        }
+
+        private boolean isReady() {
+            try {
+                return out.isReady();
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        void close() {
+            unsubscribe(this);
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    async.complete();
+                } catch (IllegalStateException e) {
+                    // already completed by the container
+                }
+            }
+        }
+    }
+}
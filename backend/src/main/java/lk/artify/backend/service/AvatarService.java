@@ -0,0 +1,106 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.util.ImageResizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Stores seller and user profile pictures as square JPEGs at fixed sizes.
+ * Files are named {@code <hash>-<size>.jpg} after the content of the largest
+ * variant, so a URL never changes meaning and can be cached forever.
+ */
+@Service
+public class AvatarService {
+
+    public static final int[] SIZES = {64, 128, 256};
+    public static final String URL_PREFIX = "/uploads/avatars/";
+
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{20}-(64|128|256)\\.jpg");
+
+    private final Path root;
+    private final float jpegQuality;
+
+    public AvatarService(@Value("${artify.avatars.root:uploads/avatars}") String root,
+                         @Value("${artify.avatars.jpeg-quality:0.85}") float jpegQuality) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath();
+        this.jpegQuality = jpegQuality;
+        Files.createDirectories(this.root);
+    }
+
+    /**
+     * @return the public URL of the largest variant; smaller ones differ only in the size suffix
+     */
+    public String storeAvatar(MultipartFile file) throws IOException {
+        int largest = SIZES[SIZES.length - 1];
+        BufferedImage source;
+        try (InputStream in = file.getInputStream()) {
+            source = ImageResizer.decode(in, largest);
+        }
+        BufferedImage square = cropToSquare(source);
+
+        byte[][] encoded = new byte[SIZES.length][];
+        for (int i = SIZES.length - 1; i >= 0; i--) {
+            square = ImageResizer.resize(square, SIZES[i]);
+            encoded[i] = ImageResizer.encodeJpeg(square, jpegQuality);
+        }
+
+        String base = HexFormat.of().formatHex(sha256(encoded[SIZES.length - 1])).substring(0, 20);
+        for (int i = 0; i < SIZES.length; i++) {
+            write(root.resolve(base + "-" + SIZES[i] + ".jpg"), encoded[i]);
+        }
+        return URL_PREFIX + base + "-" + largest + ".jpg";
+    }
+
+    public Optional<Path> resolve(String fileName) {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        Path path = root.resolve(fileName);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private void write(Path target, byte[] bytes) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Path staging = Files.createTempFile(root, "avatar-", ".part");
+        try {
+            Files.write(staging, bytes);
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // same avatar uploaded concurrently
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    private static BufferedImage cropToSquare(BufferedImage image) {
+        int edge = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - edge) / 2;
+        int y = (image.getHeight() - edge) / 2;
+        return image.getSubimage(x, y, edge, edge);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.AuctionStateDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * The minimum-increment rule shared by every bid path: the first bid must
+ * reach the auction's minimum bid, and each later bid must beat the current
+ * high by the larger of a fixed step and a percentage of it. Amounts are in cents.
+ */
+@Component
+public class BidIncrements {
+
+    private final long minIncrementCents;
+    private final int incrementPercent;
+
+    public BidIncrements(@Value("${artify.auctions.min-increment:1.00}") BigDecimal minIncrement,
+                         @Value("${artify.auctions.min-increment-percent:5}") int incrementPercent) {
+        this.minIncrementCents = BidService.toCents(minIncrement);
+        this.incrementPercent = Math.max(0, incrementPercent);
+    }
+
+    public long minIncrementCents() {
+        return minIncrementCents;
+    }
+
+    public int incrementPercent() {
+        return incrementPercent;
+    }
+
+    public long increment(long currentCents) {
+        return Math.max(minIncrementCents, currentCents * incrementPercent / 100);
+    }
+
+    /** Lowest acceptable next bid. */
+    public long minimumNextCents(long currentCents, long minimumBidCents) {
+        if (currentCents <= 0) {
+            return minimumBidCents > 0 ? minimumBidCents : minIncrementCents;
+        }
+        return currentCents + increment(currentCents);
+    }
+
+    AuctionStateDTO toDto(AuctionState state) {
+        return new AuctionStateDTO(state.auctionId,
+                state.hasBids() ? BigDecimal.valueOf(state.currentCents, 2) : null,
+                BigDecimal.valueOf(minimumNextCents(state.currentCents, state.minimumBidCents), 2),
+                state.leaderUserId, state.bidCount, state.endDateTime, state.closed, state.sequence());
+    }
+}
@@ -0,0 +1,401 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.util.Log2Histogram;
+import lk.artify.backend.util.WriteAheadLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes bids accepted by AuctionBiddingEngine to the bid table, off the
+ * bidding path, with group commit. One thread gathers bids from every shard
+ * and auction into a batch until it is full or the oldest bid has waited
+ * max-wait-ms, then writes the batch as one JDBC batch insert plus the
+ * auction.current_bid and art_work.current_bid raises, in one transaction.
+ * Maximum bids logged by the engine travel the same way and are upserted into
+ * proxy_bid in that transaction. Under load the commit cost is shared by
+ * hundreds of bids; when idle a bid waits at most the budget.
+ *
+ * Records stay in queue order, so the highest WAL sequence written per shard,
+ * across bid and proxy_bid, is a watermark: everything at or below it is in
+ * the database and may be dropped from that shard's log. A batch the
+ * database refuses as data, such as a bid whose user has since been deleted,
+ * is written again one bid at a time, and the bids that still fail are
+ * logged as dead letters and skipped, so one row cannot stall every shard.
+ * Any other failure, a lock timeout or the database being down included, is
+ * retried with backoff until the batch commits. The WAL already holds the
+ * bids, so a restart in the meantime loses nothing.
+ *
+ * The queue is bounded. When the database falls that far behind, enqueue
+ * blocks the shard thread, whose own bounded queue then turns bidders away.
+ */
+@Service
+@ConditionalOnProperty(name = "artify.auctions.bidding", havingValue = "engine", matchIfMissing = true)
+public class BidPersister {
+
+    private static final Logger log = LoggerFactory.getLogger(BidPersister.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bid (auction_id, user_id, bid_amount, bid_time, wal_shard, wal_sequence) VALUES (?, ?, ?, ?, ?, ?)";
+    // the leader is set before current_bid because MySQL evaluates SET clauses left to right
+    private static final String RAISE_AUCTION_SQL =
+            "UPDATE auction SET bid_count = bid_count + ?, "
+                    + "leader_user_id = CASE WHEN current_bid IS NULL OR current_bid < ? THEN ? ELSE leader_user_id END, "
+                    + "current_bid = CASE WHEN current_bid IS NULL OR current_bid < ? THEN ? ELSE current_bid END, "
+                    + "version = version + 1 WHERE id = ?";
+    private static final String RAISE_ARTWORKS_SQL =
+            "UPDATE art_work SET current_bid = ?, version = version + 1 WHERE auction_id = ? AND (current_bid IS NULL OR current_bid < ?)";
+    private static final String AUCTION_ARTWORKS_SQL = "SELECT id FROM art_work WHERE auction_id = ?";
+    // a maximum only ever rises; updated_at moves with it because it orders equal maximums
+    private static final String UPSERT_MAX_SQL =
+            "INSERT INTO proxy_bid (auction_id, user_id, max_amount, updated_at, wal_shard, wal_sequence) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+                    + "updated_at = CASE WHEN VALUES(max_amount) > max_amount THEN VALUES(updated_at) ELSE updated_at END, "
+                    + "max_amount = GREATEST(max_amount, VALUES(max_amount)), "
+                    + "wal_shard = VALUES(wal_shard), wal_sequence = VALUES(wal_sequence)";
+    private static final String WATERMARK_SQL =
+            "SELECT MAX(wal_sequence) FROM ("
+                    + "SELECT MAX(wal_sequence) AS wal_sequence FROM bid WHERE wal_shard = ? "
+                    + "UNION ALL SELECT MAX(wal_sequence) FROM proxy_bid WHERE wal_shard = ?) w";
+
+    // done is set on the last bid of each enqueue call; queue order makes it cover the whole call
+    record PendingBid(int shard, WriteAheadLog.Record record, CompletableFuture<Void> done) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArtworkDetailService artworkDetailService;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final Log2Histogram batchSizes = new Log2Histogram();
+    private final Log2Histogram commitMicros = new Log2Histogram();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    private final BlockingQueue<PendingBid> queue;
+    private final Map<Integer, AtomicLong> watermarks = new ConcurrentHashMap<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public BidPersister(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        ArtworkDetailService artworkDetailService,
+                        @Value("${artify.auctions.persist-batch-size:500}") int batchSize,
+                        @Value("${artify.auctions.persist-max-wait-ms:5}") long maxWaitMillis,
+                        @Value("${artify.auctions.persist-queue-capacity:262144}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.artworkDetailService = artworkDetailService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.worker = new Thread(this::drain, "bid-persister");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /** Queues bids for the next batch; the future completes once all of them are committed. */
+    public CompletableFuture<Void> enqueue(int shard, List<WriteAheadLog.Record> records) {
+        if (records.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        int last = records.size() - 1;
+        try {
+            for (int i = 0; i <= last; i++) {
+                queue.put(new PendingBid(shard, records.get(i), i == last ? done : null));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            done.completeExceptionally(new IllegalStateException("Bid persister stopped"));
+        }
+        return done;
+    }
+
+    /** Highest WAL sequence of this shard known to be in the database, or 0. */
+    public long watermark(int shard) {
+        return watermarks.computeIfAbsent(shard, s -> {
+            Long max = jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class, s, s);
+            return new AtomicLong(max != null ? max : 0);
+        }).get();
+    }
+
+    /** Writes a shard's recovered WAL records synchronously, skipping any already in the database. */
+    public void recover(int shard, List<WriteAheadLog.Record> records) {
+        long watermark = watermark(shard);
+        List<PendingBid> missing = new ArrayList<>();
+        for (WriteAheadLog.Record record : records) {
+            if (record.sequence() > watermark) {
+                missing.add(new PendingBid(shard, record, null));
+            }
+        }
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            persist(new ArrayList<>(missing.subList(from, Math.min(missing.size(), from + batchSize))));
+        }
+        if (!missing.isEmpty()) {
+            log.info("Replayed {} bids from the write-ahead log of shard {}", missing.size(), shard);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "persistedBids", persisted.get(),
+                "deadLetteredBids", deadLettered.get(),
+                "queuedBids", queue.size(),
+                "batches", batchSizes.count(),
+                "batchSizeP50", batchSizes.percentile(50),
+                "batchSizeP99", batchSizes.percentile(99),
+                "commitMicrosP50", commitMicros.percentile(50),
+                "commitMicrosP99", commitMicros.percentile(99),
+                "batchSizes", batchSizes.buckets(),
+                "commitMicros", commitMicros.buckets());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<PendingBid> batch = new ArrayList<>(batchSize);
+        long backoff = 500;
+        while (running || !queue.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingBid first = running ? queue.take() : queue.poll();
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    fill(batch);
+                }
+                persist(batch);
+                backoff = 500;
+            } catch (InterruptedException e) {
+                // shutdown: keep draining without blocking
+                running = false;
+            } catch (RuntimeException e) {
+                // persist only lets retryable failures through
+                log.warn("Persisting {} bids failed, retrying in {} ms: {}", batch.size(), backoff, e.getMessage());
+                if (!running) {
+                    break;
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    running = false;
+                }
+                backoff = Math.min(backoff * 2, 30_000);
+            }
+        }
+        if (!batch.isEmpty() || !queue.isEmpty()) {
+            log.warn("{} bids left unpersisted at shutdown; they will be replayed from the write-ahead log",
+                    batch.size() + queue.size());
+            IllegalStateException stopped = new IllegalStateException("Bid persister stopped");
+            queue.drainTo(batch);
+            for (PendingBid bid : batch) {
+                if (bid.done() != null) {
+                    bid.done().completeExceptionally(stopped);
+                }
+            }
+        }
+    }
+
+    /*
+     * Writes the batch and empties it. If it fails for a reason other than a
+     * retryable one, its bids are written one at a time and those that still
+     * fail are dead-lettered. A retryable failure part way through leaves
+     * only the unwritten bids in the batch and is rethrown.
+     */
+    private void persist(List<PendingBid> batch) {
+        try {
+            write(batch);
+            batch.clear();
+            return;
+        } catch (RuntimeException e) {
+            if (retryable(e)) {
+                throw e;
+            }
+            log.warn("Persisting {} bids failed, writing them one at a time: {}", batch.size(), e.getMessage());
+        }
+        int written = 0;
+        try {
+            for (PendingBid bid : batch) {
+                try {
+                    write(List.of(bid));
+                } catch (RuntimeException e) {
+                    if (retryable(e)) {
+                        throw e;
+                    }
+                    deadLetter(bid, e);
+                }
+                written++;
+            }
+        } finally {
+            batch.subList(0, written).clear();
+        }
+    }
+
+    /*
+     * Only a row the database refuses is given up on. An outage can surface
+     * before any SQL runs, as a transaction that cannot begin or commit, and
+     * an unrecognised failure is retried too: dropping an accepted bid is
+     * worse than stalling until someone looks.
+     */
+    private static boolean retryable(RuntimeException e) {
+        if (e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof TransactionSystemException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return !(e instanceof DataIntegrityViolationException);
+    }
+
+    /*
+     * The bid stays in the WAL until the shard compacts it, but is never
+     * written. It still counts towards the watermark and completes its
+     * caller, so one bad row cannot hold back compaction of the log.
+     */
+    private void deadLetter(PendingBid bid, RuntimeException e) {
+        WriteAheadLog.Record record = bid.record();
+        log.error("Dead-lettered bid shard={} sequence={} auction={} user={} amountCents={} at={}: {}",
+                bid.shard(), record.sequence(), record.auctionId(), record.userId(), record.amountCents(),
+                toLocalDateTime(record.timestampMillis()), e.getMessage());
+        deadLettered.incrementAndGet();
+        watermarks.computeIfAbsent(bid.shard(), s -> new AtomicLong()).accumulateAndGet(record.sequence(), Math::max);
+        if (bid.done() != null) {
+            bid.done().complete(null);
+        }
+    }
+
+    // tops the batch up until it is full or the first bid's wait budget is spent
+    private void fill(List<PendingBid> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        queue.drainTo(batch, batchSize - batch.size());
+        while (running && batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingBid next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void write(List<PendingBid> batch) {
+        List<PendingBid> bids = new ArrayList<>(batch.size());
+        List<PendingBid> maximums = new ArrayList<>();
+        // last (highest) bid and number of bids per auction in this batch
+        Map<Long, WriteAheadLog.Record> highs = new LinkedHashMap<>();
+        Map<Long, Integer> counts = new HashMap<>();
+        for (PendingBid bid : batch) {
+            if (bid.record().type() == WriteAheadLog.MAX_BID) {
+                maximums.add(bid);
+                continue;
+            }
+            bids.add(bid);
+            highs.put(bid.record().auctionId(), bid.record());
+            counts.merge(bid.record().auctionId(), 1, Integer::sum);
+        }
+        long started = System.nanoTime();
+        List<Long> artworkIds = transactionTemplate.execute(status -> {
+            if (!maximums.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_MAX_SQL, maximums, maximums.size(), (ps, max) -> {
+                    WriteAheadLog.Record record = max.record();
+                    ps.setLong(1, record.auctionId());
+                    ps.setLong(2, record.userId());
+                    ps.setDouble(3, record.amountCents() / 100.0);
+                    ps.setTimestamp(4, Timestamp.valueOf(toLocalDateTime(record.timestampMillis())));
+                    ps.setInt(5, max.shard());
+                    ps.setLong(6, record.sequence());
+                });
+            }
+            if (bids.isEmpty()) {
+                return List.<Long>of();
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, bids, bids.size(), (ps, bid) -> {
+                WriteAheadLog.Record record = bid.record();
+                ps.setLong(1, record.auctionId());
+                ps.setLong(2, record.userId());
+                ps.setDouble(3, record.amountCents() / 100.0);
+                ps.setTimestamp(4, Timestamp.valueOf(toLocalDateTime(record.timestampMillis())));
+                ps.setInt(5, bid.shard());
+                ps.setLong(6, record.sequence());
+            });
+            List<Long> touched = new ArrayList<>();
+            highs.forEach((auctionId, high) -> {
+                double amount = high.amountCents() / 100.0;
+                BigDecimal decimal = BigDecimal.valueOf(high.amountCents(), 2);
+                jdbcTemplate.update(RAISE_AUCTION_SQL, counts.get(auctionId), amount, high.userId(),
+                        amount, amount, auctionId);
+                jdbcTemplate.update(RAISE_ARTWORKS_SQL, decimal, auctionId, decimal);
+                touched.addAll(jdbcTemplate.queryForList(AUCTION_ARTWORKS_SQL, Long.class, auctionId));
+            });
+            return touched;
+        });
+        commitMicros.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+        batchSizes.record(batch.size());
+        persisted.addAndGet(batch.size());
+        for (PendingBid bid : batch) {
+            watermarks.computeIfAbsent(bid.shard(), s -> new AtomicLong())
+                    .accumulateAndGet(bid.record().sequence(), Math::max);
+            if (bid.done() != null) {
+                bid.done().complete(null);
+            }
+        }
+        if (artworkIds != null) {
+            artworkIds.forEach(artworkDetailService::invalidate);
+        }
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,53 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.AuctionDeltaDTO;
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.dto.BidResultDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bid placement and auction state. artify.auctions.bidding selects the
+ * implementation: the in-memory engine ("engine", the default) or
+ * conditional updates against the auction row ("database"). Amounts are in
+ * cents.
+ */
+public interface BidService {
+
+    CompletableFuture<BidResultDTO> placeBid(long auctionId, long userId, long amountCents);
+
+    /**
+     * Registers or raises the user's maximum bid. The service then bids for
+     * the user up to that amount, only ever as far as needed to stay ahead.
+     */
+    default CompletableFuture<BidResultDTO> placeProxyBid(long auctionId, long userId, long maxCents) {
+        return CompletableFuture.completedFuture(new BidResultDTO(BidResultDTO.Outcome.UNAVAILABLE, null));
+    }
+
+    /** Current state, empty if the auction is unknown. */
+    CompletableFuture<Optional<AuctionStateDTO>> state(long auctionId);
+
+    /**
+     * Events after the given sequence number, empty if the auction is unknown.
+     * Implementations without an event history can only report that the
+     * client is up to date or has to take a new snapshot.
+     */
+    default CompletableFuture<Optional<AuctionDeltaDTO>> events(long auctionId, long afterSequence) {
+        return state(auctionId).thenApply(state -> state.map(s -> new AuctionDeltaDTO(auctionId, afterSequence,
+                s.getSequence(), afterSequence == s.getSequence(), List.of())));
+    }
+
+    /** Stops an auction taking bids and returns its final state, empty if the auction is unknown. */
+    CompletableFuture<Optional<AuctionStateDTO>> close(long auctionId);
+
+    /** Called once a closed auction is settled, so any state held for it can go. */
+    default void evict(long auctionId) {
+    }
+
+    static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
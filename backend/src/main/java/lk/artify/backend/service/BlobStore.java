@@ -0,0 +1,20 @@
+package lk.artify.backend.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for binary payloads. Blobs are keyed by the hex
+ * SHA-256 of their bytes, so storing the same content twice keeps one copy.
+ */
+public interface BlobStore {
+
+    StoredBlob put(InputStream content) throws IOException;
+
+    Optional<Resource> get(String hash);
+
+    boolean exists(String hash);
+}
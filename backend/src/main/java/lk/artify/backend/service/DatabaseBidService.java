@@ -0,0 +1,188 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.AuctionStateDTO;
+import lk.artify.backend.dto.BidResultDTO;
+import lk.artify.backend.dto.BidResultDTO.Outcome;
+import jakarta.annotation.PostConstruct;
+import lk.artify.backend.event.AuctionBidEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Places bids straight against the auction row, for deployments without the
+ * in-memory engine. The whole check (open, started, not ended, not the
+ * seller's own auction, above the minimum increment) lives in the WHERE
+ * clause of one UPDATE. Concurrent bidders serialize on the row lock, and
+ * each re-evaluates the condition against the committed high, so no bid is
+ * lost and there is no read-modify-write window. The same UPDATE moves the
+ * bid count and the leader, and the bid row is inserted in the same
+ * transaction, so an accepted bid answers from values it already holds plus
+ * one primary key read of the locked row. The full state is loaded only to
+ * explain a rejection.
+ *
+ * Deadlocks and lock timeouts are retried a bounded number of times after a
+ * randomized exponential backoff.
+ */
+@Service
+@ConditionalOnProperty(name = "artify.auctions.bidding", havingValue = "database")
+public class DatabaseBidService implements BidService {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBidService.class);
+
+    // amounts compared in whole cents so the rule matches BidIncrements exactly
+    private static final String PLACE_SQL =
+            "UPDATE auction SET current_bid = ?, leader_user_id = ?, bid_count = bid_count + 1, version = version + 1 "
+                    + "WHERE id = ? AND closed = false "
+                    + "AND (start_date_time IS NULL OR start_date_time <= ?) "
+                    + "AND (end_date_time IS NULL OR end_date_time > ?) "
+                    + "AND NOT EXISTS (SELECT 1 FROM sellers s WHERE s.seller_id = auction.seller_id AND s.user_id = ?) "
+                    + "AND ((COALESCE(current_bid, 0) <= 0 AND ? >= COALESCE(NULLIF(ROUND(minimum_bid * 100), 0), ?)) "
+                    + "OR (current_bid > 0 AND ROUND(current_bid * 100) "
+                    + "+ GREATEST(?, FLOOR(ROUND(current_bid * 100) * ? / 100)) <= ?))";
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bid (auction_id, user_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final String RAISE_ARTWORKS_SQL =
+            "UPDATE art_work SET current_bid = ?, version = version + 1 WHERE auction_id = ?";
+    private static final String AUCTION_ARTWORKS_SQL = "SELECT id FROM art_work WHERE auction_id = ?";
+    private static final String PLACED_SQL = "SELECT end_date_time, minimum_bid, bid_count FROM auction WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArtworkDetailService artworkDetailService;
+    private final BidIncrements increments;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public DatabaseBidService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher, ArtworkDetailService artworkDetailService,
+                              BidIncrements increments,
+                              @Value("${artify.auctions.database.max-attempts:5}") int maxAttempts,
+                              @Value("${artify.auctions.database.backoff-millis:2}") long backoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.artworkDetailService = artworkDetailService;
+        this.increments = increments;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(1, backoffMillis);
+    }
+
+    @PostConstruct
+    public void backfill() {
+        int backfilled = AuctionState.backfill(jdbcTemplate);
+        if (backfilled > 0) {
+            log.info("Backfilled bid counts for {} auctions", backfilled);
+        }
+    }
+
+    @Override
+    public CompletableFuture<BidResultDTO> placeBid(long auctionId, long userId, long amountCents) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return CompletableFuture.completedFuture(attempt(auctionId, userId, amountCents));
+            } catch (TransientDataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Bid on auction {} gave up after {} attempts: {}", auctionId, attempt, e.getMessage());
+                    return CompletableFuture.completedFuture(new BidResultDTO(Outcome.UNAVAILABLE, null));
+                }
+                if (!backOff(attempt)) {
+                    return CompletableFuture.completedFuture(new BidResultDTO(Outcome.UNAVAILABLE, null));
+                }
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<AuctionStateDTO>> state(long auctionId) {
+        AuctionState state = AuctionState.load(jdbcTemplate, auctionId);
+        return CompletableFuture.completedFuture(Optional.ofNullable(state != null ? increments.toDto(state) : null));
+    }
+
+    // the placement condition refuses bids once end_date_time has passed, so the row is already final
+    @Override
+    public CompletableFuture<Optional<AuctionStateDTO>> close(long auctionId) {
+        return state(auctionId);
+    }
+
+    private BidResultDTO attempt(long auctionId, long userId, long amountCents) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp at = Timestamp.valueOf(now);
+        double amount = amountCents / 100.0;
+        Placed placed = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update(PLACE_SQL, amount, userId, auctionId, at, at, userId,
+                    amountCents, increments.minIncrementCents(),
+                    increments.minIncrementCents(), increments.incrementPercent(), amountCents);
+            if (updated == 0) {
+                return null;
+            }
+            jdbcTemplate.update(INSERT_BID_SQL, auctionId, userId, amount, at);
+            jdbcTemplate.update(RAISE_ARTWORKS_SQL, BigDecimal.valueOf(amountCents, 2), auctionId);
+            AuctionState state = jdbcTemplate.queryForObject(PLACED_SQL, (rs, rowNum) -> {
+                Timestamp end = rs.getTimestamp("end_date_time");
+                LocalDateTime endDateTime = end != null ? end.toLocalDateTime() : null;
+                return new AuctionState(auctionId, null, Long.MIN_VALUE,
+                        endDateTime != null ? AuctionState.toEpochMillis(endDateTime) : Long.MAX_VALUE, endDateTime,
+                        Math.round(rs.getDouble("minimum_bid") * 100), amountCents, userId,
+                        rs.getLong("bid_count"), false);
+            }, auctionId);
+            return new Placed(state, jdbcTemplate.queryForList(AUCTION_ARTWORKS_SQL, Long.class, auctionId));
+        });
+
+        if (placed != null) {
+            placed.artworkIds().forEach(artworkDetailService::invalidate);
+            AuctionStateDTO dto = increments.toDto(placed.state());
+            eventPublisher.publishEvent(new AuctionBidEvent(dto));
+            return new BidResultDTO(Outcome.ACCEPTED, dto);
+        }
+        AuctionState state = AuctionState.load(jdbcTemplate, auctionId);
+        if (state == null) {
+            return new BidResultDTO(Outcome.AUCTION_NOT_FOUND, null);
+        }
+        return new BidResultDTO(rejection(state, userId, AuctionState.toEpochMillis(now)), increments.toDto(state));
+    }
+
+    private static Outcome rejection(AuctionState state, long userId, long nowMillis) {
+        if (nowMillis < state.startsAtMillis) {
+            return Outcome.NOT_STARTED;
+        }
+        if (state.closed || nowMillis >= state.endsAtMillis) {
+            return Outcome.ENDED;
+        }
+        if (state.sellerUserId != null && state.sellerUserId == userId) {
+            return Outcome.OWN_AUCTION;
+        }
+        return Outcome.TOO_LOW;
+    }
+
+    private record Placed(AuctionState state, List<Long> artworkIds) {
+    }
+
+    // full jitter: sleep a random time up to an exponentially growing cap
+    private boolean backOff(int attempt) {
+        long cap = backoffMillis << Math.min(attempt, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
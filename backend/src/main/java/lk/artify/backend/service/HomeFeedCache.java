@@ -0,0 +1,177 @@
+package lk.artify.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.event.ArtworkChangedEvent;
+import lk.artify.backend.util.FeedCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized home/auction feed pages keyed by (auctionId, cursor, limit).
+ *
+ * Each feed has a generation counter that artwork changes bump after commit.
+ * A page from an older generation is still served while one background load
+ * replaces it, and a missing page is loaded once no matter how many requests
+ * ask for it concurrently.
+ */
+@Service
+public class HomeFeedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(HomeFeedCache.class);
+
+    // generation key for the feed of artworks that are not in an auction
+    private static final long HOME_FEED = -1L;
+
+    private final HomeFeedService homeFeedService;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<PageKey, CachedPage> pages;
+    private final Map<PageKey, CompletableFuture<CachedPage>> loading = new ConcurrentHashMap<>();
+    private final ExecutorService refresher;
+
+    public HomeFeedCache(HomeFeedService homeFeedService,
+                         ObjectMapper objectMapper,
+                         @Value("${artify.feed.cache.max-pages:2000}") int maxPages,
+                         @Value("${artify.feed.cache.refresh-threads:2}") int refreshThreads) {
+        this.homeFeedService = homeFeedService;
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.pages = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+                return size() > HomeFeedCache.this.maxPages;
+            }
+        };
+        this.refresher = Executors.newFixedThreadPool(Math.max(1, refreshThreads), r -> {
+            Thread t = new Thread(r, "feed-cache-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * JSON bytes of one feed page. Throws IllegalArgumentException for a bad cursor.
+     */
+    public byte[] getPage(Long auctionId, String cursor, int limit) {
+        String normalizedCursor = cursor == null || cursor.isBlank() ? null : cursor;
+        if (normalizedCursor != null) {
+            FeedCursor.decode(normalizedCursor);
+        }
+        int size = Math.max(1, Math.min(limit, HomeFeedService.MAX_LIMIT));
+        PageKey key = new PageKey(feedKey(auctionId), normalizedCursor, size);
+        long generation = generation(key.feed()).get();
+
+        CachedPage page;
+        synchronized (pages) {
+            page = pages.get(key);
+        }
+        if (page != null) {
+            if (page.generation() < generation) {
+                load(key, auctionId);
+            }
+            return page.json();
+        }
+        return join(load(key, auctionId)).json();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtworkChanged(ArtworkChangedEvent event) {
+        if (!event.isFeedChanged()) {
+            return;
+        }
+        generation(feedKey(event.getAuctionId())).incrementAndGet();
+        if (event.getChangeType() != ArtworkChangedEvent.ChangeType.CREATED) {
+            long previous = feedKey(event.getPreviousAuctionId());
+            if (previous != feedKey(event.getAuctionId())) {
+                generation(previous).incrementAndGet();
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        int size;
+        synchronized (pages) {
+            size = pages.size();
+        }
+        return Map.of("pages", size, "maxPages", maxPages, "loading", loading.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // at most one load per key; the generation is read before querying so a change during the load marks it stale
+    private CompletableFuture<CachedPage> load(PageKey key, Long auctionId) {
+        CompletableFuture<CachedPage> created = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        refresher.execute(() -> {
+            try {
+                long generation = generation(key.feed()).get();
+                byte[] json = objectMapper.writeValueAsBytes(
+                        homeFeedService.getPage(auctionId, key.cursor(), key.limit()));
+                CachedPage page = new CachedPage(json, generation);
+                synchronized (pages) {
+                    CachedPage current = pages.get(key);
+                    if (current == null || current.generation() <= generation) {
+                        pages.put(key, page);
+                    }
+                }
+                created.complete(page);
+            } catch (JsonProcessingException e) {
+                created.completeExceptionally(new IllegalStateException("Could not serialize feed page", e));
+            } catch (RuntimeException e) {
+                log.warn("Feed page load failed for {}: {}", key, e.getMessage());
+                created.completeExceptionally(e);
+            } finally {
+                loading.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    private CachedPage join(CompletableFuture<CachedPage> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AtomicLong generation(long feed) {
+        return generations.computeIfAbsent(feed, k -> new AtomicLong());
+    }
+
+    private static long feedKey(Long auctionId) {
+        return auctionId == null ? HOME_FEED : auctionId;
+    }
+
+    private record PageKey(long feed, String cursor, int limit) {
+    }
+
+    private record CachedPage(byte[] json, long generation) {
+    }
+}
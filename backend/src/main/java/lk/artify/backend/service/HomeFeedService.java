@@ -0,0 +1,50 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import lk.artify.backend.dto.HomeFeedPageDTO;
+import lk.artify.backend.repository.ArtWorkRepository;
+import lk.artify.backend.util.FeedCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class HomeFeedService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private ArtWorkRepository artWorkRepository;
+
+    /**
+     * One keyset page of the home feed (auctionId null) or of an auction's artworks.
+     * Fetches one extra row to know whether another page exists.
+     */
+    public HomeFeedPageDTO getPage(Long auctionId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Limit fetch = Limit.of(size + 1);
+        FeedCursor after = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+
+        List<ArtworkHomeDTO> rows;
+        if (auctionId == null) {
+            rows = after == null
+                    ? artWorkRepository.findHomeFeed(fetch)
+                    : artWorkRepository.findHomeFeedAfter(after.getAddedDate(), after.getId(), fetch);
+        } else {
+            rows = after == null
+                    ? artWorkRepository.findAuctionFeed(auctionId, fetch)
+                    : artWorkRepository.findAuctionFeedAfter(auctionId, after.getAddedDate(), after.getId(), fetch);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ArtworkHomeDTO last = rows.get(size - 1);
+            nextCursor = new FeedCursor(last.getAddedDate(), last.getId()).encode();
+        }
+        return new HomeFeedPageDTO(rows, nextCursor);
+    }
+}
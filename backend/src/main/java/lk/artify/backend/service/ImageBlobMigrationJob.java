@@ -0,0 +1,113 @@
+package lk.artify.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves image bytes still held in the legacy LOB column into the BlobStore,
+ * one chunk of rows at a time, and clears the column once the blob is written.
+ * Each migrated image is then queued for its derivatives, since the startup
+ * sweep has usually run past it by then.
+ */
+@Component
+public class ImageBlobMigrationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageBlobMigrationJob.class);
+
+    private static final String PENDING_SQL =
+            "SELECT id FROM art_work_image WHERE content_hash IS NULL AND data IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String MIGRATED_SQL =
+            "UPDATE art_work_image SET content_hash = ?, size = ?, data = NULL WHERE id = ? AND content_hash IS NULL";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LegacyImageLobReader legacyReader;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ImageDerivativeService derivativeService;
+
+    @Value("${artify.blobstore.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${artify.blobstore.migration.batch-size:50}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled || !legacyReader.isPresent()) {
+            return;
+        }
+        Thread worker = new Thread(this::drain, "image-blob-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public int drain() {
+        int migrated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(PENDING_SQL, Long.class, lastId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                lastId = id;
+                try {
+                    Optional<Long> length = legacyReader.length(id);
+                    if (length.isEmpty()) {
+                        continue;
+                    }
+                    try (InputStream in = legacyReader.open(id, length.get())) {
+                        StoredBlob blob = blobStore.put(in);
+                        updates.add(new Object[] {blob.getHash(), blob.getSize(), id});
+                    }
+                } catch (IOException | DataAccessException e) {
+                    // leave the row as is; the next run picks it up again
+                    log.warn("Could not migrate artwork image {}: {}", id, e.getMessage());
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(MIGRATED_SQL, updates));
+                migrated += updates.size();
+                log.info("Migrated {} artwork images to the blob store", migrated);
+                try {
+                    for (int i = 0; i < updates.size(); i++) {
+                        // a row migrated concurrently elsewhere reports 0 and is queued by that run
+                        if (counts == null || counts[i] != 0) {
+                            derivativeService.enqueueWaiting((Long) updates.get(i)[2]);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return migrated;
+    }
+}
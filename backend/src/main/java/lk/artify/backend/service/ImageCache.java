@@ -0,0 +1,286 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.model.ArtWorkImage.Variant;
+import lk.artify.backend.util.ByteBufferResource;
+import lk.artify.backend.util.FrequencySketch;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte-budgeted cache of hot image payloads held in direct ByteBuffers, so the
+ * cached bytes sit outside the Java heap.
+ *
+ * Eviction is W-TinyLFU: new entries land in a small LRU window; an entry
+ * pushed out of the window only enters the main LRU region if the frequency
+ * sketch says it is more popular than the main region's eviction victim.
+ *
+ * Misses are never filled on the request thread. The caller serves the miss
+ * from its own resource and offers it here. A background thread then copies
+ * it in, but only if the sketch has already seen the key more than once and it
+ * would win admission against main's victim. Each key is filled by at most one
+ * copy at a time.
+ */
+@Service
+public class ImageCache {
+
+    private final boolean enabled;
+    private final long maxEntryBytes;
+    private final long windowMaxBytes;
+    private final long mainMaxBytes;
+    private final ThreadPoolExecutor filler;
+    private final Set<String> filling = ConcurrentHashMap.newKeySet();
+
+    private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> main = new LinkedHashMap<>(64, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long windowBytes;
+    private long mainBytes;
+    // bumped by every invalidation, so a fill that started before one is dropped
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder failedFills = new LongAdder();
+
+    public ImageCache(@Value("${artify.images.cache.enabled:true}") boolean enabled,
+                      @Value("${artify.images.cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${artify.images.cache.max-entry-bytes:4194304}") long maxEntryBytes,
+                      @Value("${artify.images.cache.fill-queue:64}") int fillQueue) {
+        this.enabled = enabled;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.windowMaxBytes = Math.max(maxBytes / 100, this.maxEntryBytes);
+        this.mainMaxBytes = Math.max(0, maxBytes - windowMaxBytes);
+        // assume ~64 KiB per entry for sizing the sketch
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, Math.max(1, maxBytes / 65536)));
+        this.filler = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, fillQueue)), r -> {
+                    Thread t = new Thread(r, "image-cache-fill");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        filler.shutdownNow();
+    }
+
+    public StoredImage get(Long imageId, Variant variant) {
+        if (!enabled) {
+            return null;
+        }
+        String key = key(imageId, variant);
+        Entry entry;
+        synchronized (this) {
+            sketch.increment(key);
+            entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.toStoredImage(imageId);
+    }
+
+    /**
+     * Offers a missed image for caching. Returns at once; the copy, if the
+     * image earns one, is made in the background from a fresh stream of the
+     * same resource.
+     */
+    public void offer(Long imageId, Variant variant, StoredImage image) {
+        if (!enabled || !image.isImmutable() || image.getSize() <= 0 || image.getSize() > maxEntryBytes) {
+            return;
+        }
+        String key = key(imageId, variant);
+        long startedAt;
+        synchronized (this) {
+            if (!worthFilling(key, image.getSize())) {
+                return;
+            }
+            startedAt = generation;
+        }
+        if (!filling.add(key)) {
+            return;
+        }
+        try {
+            filler.execute(() -> {
+                try {
+                    fill(key, image, startedAt);
+                } finally {
+                    filling.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // fill queue full; a later miss offers it again
+            filling.remove(key);
+        }
+    }
+
+    private void fill(String key, StoredImage image, long startedAt) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) image.getSize());
+        try (InputStream in = image.getResource().getInputStream();
+             ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // fill
+            }
+            // a short read or a longer blob must never be cached under the full ETag
+            if (buffer.hasRemaining() || in.read() >= 0) {
+                failedFills.increment();
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            failedFills.increment();
+            return;
+        }
+        buffer.flip();
+        Entry entry = new Entry(key, image.getContentType(), image.getEtag(), buffer);
+
+        synchronized (this) {
+            if (generation != startedAt) {
+                return;
+            }
+            removeKey(entry.key);
+            window.put(entry.key, entry);
+            windowBytes += entry.size();
+            while (windowBytes > windowMaxBytes) {
+                Entry candidate = removeEldest(window);
+                windowBytes -= candidate.size();
+                admitToMain(candidate);
+            }
+        }
+    }
+
+    // one-hit wonders and keys that would lose admission never cost a copy
+    // caller holds the lock
+    private boolean worthFilling(String key, long size) {
+        if (window.containsKey(key) || main.containsKey(key)) {
+            return false;
+        }
+        int frequency = sketch.frequency(key);
+        if (frequency < 2) {
+            return false;
+        }
+        if (mainBytes + size <= mainMaxBytes || main.isEmpty()) {
+            return true;
+        }
+        return frequency > sketch.frequency(main.keySet().iterator().next());
+    }
+
+    public void invalidate(Long imageId) {
+        synchronized (this) {
+            generation++;
+            removeKey(key(imageId, null));
+            for (Variant variant : Variant.values()) {
+                removeKey(key(imageId, variant));
+            }
+        }
+    }
+
+    public Map<String, Long> stats() {
+        long used;
+        long entries;
+        synchronized (this) {
+            used = windowBytes + mainBytes;
+            entries = window.size() + main.size();
+        }
+        return Map.of(
+                "hits", hits.sum(),
+                "misses", misses.sum(),
+                "evictions", evictions.sum(),
+                "admissionRejections", rejections.sum(),
+                "failedFills", failedFills.sum(),
+                "entries", entries,
+                "usedBytes", used,
+                "maxBytes", windowMaxBytes + mainMaxBytes);
+    }
+
+    // caller holds the lock
+    private void admitToMain(Entry candidate) {
+        int candidateFrequency = sketch.frequency(candidate.key);
+        while (mainBytes + candidate.size() > mainMaxBytes) {
+            if (main.isEmpty()) {
+                rejections.increment();
+                return;
+            }
+            Entry victim = main.values().iterator().next();
+            if (candidateFrequency <= sketch.frequency(victim.key)) {
+                rejections.increment();
+                return;
+            }
+            main.remove(victim.key);
+            mainBytes -= victim.size();
+            evictions.increment();
+        }
+        main.put(candidate.key, candidate);
+        mainBytes += candidate.size();
+    }
+
+    private void removeKey(String key) {
+        Entry removed = window.remove(key);
+        if (removed != null) {
+            windowBytes -= removed.size();
+        }
+        removed = main.remove(key);
+        if (removed != null) {
+            mainBytes -= removed.size();
+        }
+    }
+
+    private static Entry removeEldest(LinkedHashMap<String, Entry> map) {
+        Iterator<Entry> it = map.values().iterator();
+        Entry eldest = it.next();
+        it.remove();
+        return eldest;
+    }
+
+    private static String key(Long imageId, Variant variant) {
+        return imageId + ":" + (variant == null ? "original" : variant.name());
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final String contentType;
+        private final String etag;
+        private final ByteBuffer buffer;
+
+        private Entry(String key, String contentType, String etag, ByteBuffer buffer) {
+            this.key = key;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.buffer = buffer;
+        }
+
+        private long size() {
+            return buffer.capacity();
+        }
+
+        private StoredImage toStoredImage(Long imageId) {
+            return new StoredImage(imageId, contentType, buffer.capacity(), etag,
+                    new ByteBufferResource(buffer, "cached image " + key), true);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.model.ArtWorkImage;
+import lk.artify.backend.model.ArtWorkImage.Variant;
+import lk.artify.backend.repository.ArtWorkImageRepository;
+import lk.artify.backend.util.ImageResizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Builds the THUMB/CARD/DETAIL JPEG derivatives of uploaded images on a small
+ * fixed pool of worker threads fed by a bounded queue. Uploads never wait on
+ * this: when the queue is full the image is skipped and picked up again by the
+ * sweep that runs at startup. Originals that cannot be decoded are flagged and
+ * left out of later sweeps.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private static final String MISSING_SQL =
+            "SELECT id FROM art_work_image WHERE content_hash IS NOT NULL AND card_hash IS NULL "
+                    + "AND (derivatives_failed IS NULL OR derivatives_failed = false) AND id > ? ORDER BY id LIMIT 500";
+    private static final String FAILED_SQL = "UPDATE art_work_image SET derivatives_failed = true WHERE id = ?";
+
+    @Autowired
+    private ArtWorkImageRepository imageRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${artify.images.derivatives.workers:2}")
+    private int workerCount;
+
+    @Value("${artify.images.derivatives.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${artify.images.derivatives.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    private BlockingQueue<Long> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "image-derivatives-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    public void scheduleAfterCommit(Long imageId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(imageId);
+                }
+            });
+        } else {
+            enqueue(imageId);
+        }
+    }
+
+    public boolean enqueue(Long imageId) {
+        boolean accepted = queue.offer(imageId);
+        if (!accepted) {
+            log.warn("Derivative queue full, image {} will be picked up by the next sweep", imageId);
+        }
+        return accepted;
+    }
+
+    /** Waits for room in the queue; for background jobs that must not drop images. */
+    public void enqueueWaiting(Long imageId) throws InterruptedException {
+        queue.put(imageId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweepInBackground() {
+        Thread sweeper = new Thread(this::sweep, "image-derivatives-sweep");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    private void sweep() {
+        long lastId = 0;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(MISSING_SQL, Long.class, lastId);
+                if (ids.isEmpty()) {
+                    return;
+                }
+                for (Long id : ids) {
+                    // blocking put: the sweep is allowed to wait for the workers
+                    queue.put(id);
+                    lastId = id;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Derivative sweep stopped: {}", e.getMessage());
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Long imageId;
+            try {
+                imageId = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                generate(imageId);
+            } catch (Exception e) {
+                log.warn("Could not build derivatives for artwork image {}: {}", imageId, e.getMessage());
+            }
+        }
+    }
+
+    void generate(Long imageId) throws Exception {
+        Optional<ArtWorkImage> found = imageRepository.findById(imageId);
+        if (found.isEmpty() || found.get().getContentHash() == null || found.get().getCardHash() != null) {
+            return;
+        }
+        ArtWorkImage image = found.get();
+        Optional<Resource> original = blobStore.get(image.getContentHash());
+        if (original.isEmpty()) {
+            return;
+        }
+
+        BufferedImage source;
+        try (InputStream in = original.get().getInputStream()) {
+            source = ImageResizer.decode(in, Variant.DETAIL.getMaxEdge());
+        } catch (IOException | RuntimeException e) {
+            // the same bytes will not decode next time either
+            jdbcTemplate.update(FAILED_SQL, imageId);
+            log.warn("Artwork image {} could not be decoded, no derivatives will be built: {}", imageId, e.getMessage());
+            return;
+        }
+
+        // largest first, each size scaled down from the previous one
+        BufferedImage detail = ImageResizer.resize(source, Variant.DETAIL.getMaxEdge());
+        BufferedImage card = ImageResizer.resize(detail, Variant.CARD.getMaxEdge());
+        BufferedImage thumb = ImageResizer.resize(card, Variant.THUMB.getMaxEdge());
+
+        image.setDetailHash(storeJpeg(detail));
+        image.setCardHash(storeJpeg(card));
+        image.setThumbHash(storeJpeg(thumb));
+        imageRepository.save(image);
+    }
+
+    private String storeJpeg(BufferedImage image) throws Exception {
+        byte[] jpeg = ImageResizer.encodeJpeg(image, jpegQuality);
+        return blobStore.put(new ByteArrayInputStream(jpeg)).getHash();
+    }
+}
@@ -0,0 +1,58 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.util.BlobChunkInputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to the old art_work_image.data LOB column. The entity no longer
+ * maps it, but schema updates never drop columns, so rows written before the
+ * blob store existed keep their bytes there until the migration job drains them.
+ */
+@Component
+public class LegacyImageLobReader {
+
+    private static final String COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns "
+            + "WHERE table_schema = DATABASE() AND table_name = 'art_work_image' AND column_name = 'data'";
+    private static final String LENGTH_SQL =
+            "SELECT OCTET_LENGTH(data) FROM art_work_image WHERE id = ? AND data IS NOT NULL";
+    private static final String CHUNK_SQL =
+            "SELECT SUBSTRING(data, ?, ?) FROM art_work_image WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${artify.images.chunk-size:262144}")
+    private int chunkSize;
+
+    private volatile Boolean present;
+
+    public boolean isPresent() {
+        Boolean result = present;
+        if (result == null) {
+            Integer count = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class);
+            result = count != null && count > 0;
+            present = result;
+        }
+        return result;
+    }
+
+    public Optional<Long> length(Long id) {
+        if (!isPresent()) {
+            return Optional.empty();
+        }
+        List<Long> rows = jdbcTemplate.queryForList(LENGTH_SQL, Long.class, id);
+        return rows.stream().findFirst();
+    }
+
+    public InputStream open(Long id, long length) {
+        return new BlobChunkInputStream(jdbcTemplate, CHUNK_SQL, id, length, chunkSize);
+    }
+}
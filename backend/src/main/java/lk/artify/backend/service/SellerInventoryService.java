@@ -0,0 +1,50 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkBasicInfoDTO;
+import lk.artify.backend.dto.SellerInventoryDTO;
+import lk.artify.backend.dto.StatusCountDTO;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+import lk.artify.backend.repository.ArtWorkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class SellerInventoryService {
+
+    @Autowired
+    private ArtWorkRepository artWorkRepository;
+
+    /**
+     * One page of a seller's artworks plus per-status counts. The grouped count
+     * query also supplies the page total, so no separate COUNT(*) runs.
+     */
+    public SellerInventoryDTO getInventory(Long sellerId, SellingStatus status, int page, int size) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (SellingStatus s : SellingStatus.values()) {
+            counts.put(s.name(), 0L);
+        }
+        long all = 0;
+        for (StatusCountDTO row : artWorkRepository.countBySellingStatus(sellerId)) {
+            all += row.getCount();
+            if (row.getStatus() != null) {
+                counts.put(row.getStatus().name(), row.getCount());
+            }
+        }
+        long total = status == null ? all : counts.get(status.name());
+
+        List<ArtworkBasicInfoDTO> items;
+        if ((long) page * size >= total) {
+            items = List.of();
+        } else if (status == null) {
+            items = artWorkRepository.findInventoryPage(sellerId, PageRequest.of(page, size));
+        } else {
+            items = artWorkRepository.findInventoryPage(sellerId, status, PageRequest.of(page, size));
+        }
+        return new SellerInventoryDTO(items, page, size, total, counts);
+    }
+}
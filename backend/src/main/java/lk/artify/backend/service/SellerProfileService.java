@@ -0,0 +1,86 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.SellerProfileDTO;
+import lk.artify.backend.dto.SellerSummaryDTO;
+import lk.artify.backend.repository.SellerRepository;
+import lk.artify.backend.util.SingleFlightCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache of seller profiles, keyed by seller id. Each miss is one
+ * projection query on the primary key or the unique user_id index. Counter
+ * changes evict the entry, and a TTL covers the remaining seller columns,
+ * which publish no change events.
+ */
+@Service
+public class SellerProfileService {
+
+    private final SellerRepository sellerRepository;
+    private final SingleFlightCache<Long, SellerProfileDTO> cache;
+    // a user's seller id never changes once registered
+    private final Map<Long, Long> sellerIdByUser = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public SellerProfileService(SellerRepository sellerRepository,
+                                @Value("${artify.sellers.cache.max-entries:5000}") int maxEntries,
+                                @Value("${artify.sellers.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.sellerRepository = sellerRepository;
+        this.maxEntries = maxEntries;
+        this.cache = new SingleFlightCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public Optional<SellerProfileDTO> getProfile(Long sellerId) {
+        return Optional.ofNullable(cache.get(sellerId, sellerRepository::findProfileById));
+    }
+
+    public Optional<SellerProfileDTO> getProfileByUserId(Long userId) {
+        Long sellerId = sellerIdByUser.get(userId);
+        if (sellerId != null) {
+            return getProfile(sellerId);
+        }
+        SellerProfileDTO profile = sellerRepository.findProfileByUserId(userId);
+        if (profile == null) {
+            return Optional.empty();
+        }
+        if (sellerIdByUser.size() >= maxEntries) {
+            sellerIdByUser.clear();
+        }
+        sellerIdByUser.put(userId, profile.getSellerId());
+        cache.putIfAbsent(profile.getSellerId(), profile);
+        return Optional.of(profile);
+    }
+
+    public Map<Long, SellerProfileDTO> getProfiles(Collection<Long> sellerIds) {
+        return cache.getAll(sellerIds, this::loadAll);
+    }
+
+    // public card fields only, for pages that show many sellers at once
+    public Map<Long, SellerSummaryDTO> getSummaries(Collection<Long> sellerIds) {
+        Map<Long, SellerSummaryDTO> summaries = new LinkedHashMap<>();
+        getProfiles(sellerIds).forEach((id, profile) -> summaries.put(id, new SellerSummaryDTO(profile.getSellerId(),
+                profile.getBusinessName(), profile.getProfile_pic(), profile.isVerified(), profile.getLocation(),
+                profile.getRate())));
+        return summaries;
+    }
+
+    public void invalidate(Long sellerId) {
+        cache.invalidate(sellerId);
+    }
+
+    private Map<Long, SellerProfileDTO> loadAll(Set<Long> sellerIds) {
+        Map<Long, SellerProfileDTO> profiles = new HashMap<>();
+        for (SellerProfileDTO profile : sellerRepository.findProfilesByIds(sellerIds)) {
+            profiles.put(profile.getSellerId(), profile);
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,67 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.event.ArtworkChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains sellers.artwork_count and sellers.follower_count. Committed
+ * artwork inserts and deletes recount that one seller's artworks, an index
+ * range on idx_artwork_seller_status. Recounting rather than adding a delta
+ * keeps the column right however it interleaves with the full recount at
+ * startup, which repairs any drift, such as rows changed outside the
+ * application, and fills both columns for existing sellers.
+ */
+@Service
+public class SellerStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SellerStatsService.class);
+
+    private static final String RECOUNT_SQL =
+            "UPDATE sellers s SET "
+                    + "artwork_count = (SELECT COUNT(*) FROM art_work a WHERE a.seller_id = s.seller_id), "
+                    + "follower_count = (SELECT COUNT(*) FROM followers f WHERE f.seller_id = s.seller_id)";
+    private static final String RECOUNT_ARTWORKS_SQL =
+            "UPDATE sellers SET artwork_count = (SELECT COUNT(*) FROM art_work a WHERE a.seller_id = ?) "
+                    + "WHERE seller_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SellerProfileService sellerProfileService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountInBackground() {
+        Thread worker = new Thread(this::recount, "seller-stats-recount");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void recount() {
+        try {
+            int sellers = jdbcTemplate.update(RECOUNT_SQL);
+            log.info("Recounted artwork and follower totals for {} sellers", sellers);
+        } catch (RuntimeException e) {
+            log.warn("Seller stats recount failed: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtworkChanged(ArtworkChangedEvent event) {
+        if (event.getSellerId() == null) {
+            return;
+        }
+        if (event.getChangeType() != ArtworkChangedEvent.ChangeType.UPDATED) {
+            jdbcTemplate.update(RECOUNT_ARTWORKS_SQL, event.getSellerId(), event.getSellerId());
+            sellerProfileService.invalidate(event.getSellerId());
+        }
+    }
+}
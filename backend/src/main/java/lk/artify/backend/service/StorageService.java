@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,25 +15,38 @@ import java.util.List;
 public class StorageService {
 
     private final ArtWorkImageRepository imageRepository;
+    private final BlobStore blobStore;
+    private final ImageDerivativeService derivativeService;
 
-    public StorageService(ArtWorkImageRepository imageRepository) {
+    public StorageService(ArtWorkImageRepository imageRepository, BlobStore blobStore,
+                          ImageDerivativeService derivativeService) {
         this.imageRepository = imageRepository;
+        this.blobStore = blobStore;
+        this.derivativeService = derivativeService;
     }
 
     public List<ArtWorkImage> storeArtworkImages(List<MultipartFile> files, ArtWork artWork) throws IOException {
         List<ArtWorkImage> imageList = new ArrayList<>();
 
-        for (MultipartFile file : files) {
+        for (int position = 0; position < files.size(); position++) {
+            MultipartFile file = files.get(position);
+            StoredBlob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = blobStore.put(in);
+            }
             ArtWorkImage image = new ArtWorkImage();
             image.setFileName(file.getOriginalFilename());
             image.setContentType(file.getContentType());
-            image.setData(file.getBytes());
+            image.setContentHash(blob.getHash());
+            image.setSize(blob.getSize());
+            image.setPosition(position);
             image.setArtWork(artWork); 
 
-            imageList.add(imageRepository.save(image));
+            ArtWorkImage saved = imageRepository.save(image);
+            derivativeService.scheduleAfterCommit(saved.getId());
+            imageList.add(saved);
         }
 
         return imageList;
     }
 }
-
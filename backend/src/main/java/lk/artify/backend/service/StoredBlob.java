@@ -0,0 +1,20 @@
+package lk.artify.backend.service;
+
+public class StoredBlob {
+
+    private final String hash;
+    private final long size;
+
+    public StoredBlob(String hash, long size) {
+        this.hash = hash;
+        this.size = size;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,47 @@
+package lk.artify.backend.service;
+
+import org.springframework.core.io.Resource;
+
+public class StoredImage {
+
+    private final Long id;
+    private final String contentType;
+    private final long size;
+    private final String etag;
+    private final Resource resource;
+    private final boolean immutable;
+
+    public StoredImage(Long id, String contentType, long size, String etag, Resource resource, boolean immutable) {
+        this.id = id;
+        this.contentType = contentType;
+        this.size = size;
+        this.etag = etag;
+        this.resource = resource;
+        this.immutable = immutable;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    // false when a requested derivative is not built yet and the original is served in its place
+    public boolean isImmutable() {
+        return immutable;
+    }
+}
@@ -0,0 +1,138 @@
+package lk.artify.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lk.artify.backend.dto.SuggestionDTO;
+import lk.artify.backend.dto.SuggestionDTO.Kind;
+import lk.artify.backend.event.ArtworkChangedEvent;
+import lk.artify.backend.util.PrefixIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Typeahead over artwork names, artists and seller business names.
+ *
+ * The PrefixIndex is immutable. A background thread rebuilds it and swaps
+ * it in, at startup, shortly after artwork changes and on a fixed schedule
+ * for seller and popularity changes. Lookups read whichever index is
+ * current and never wait for a rebuild.
+ *
+ * Popularity: an artwork scores 10 per sale plus its seller's followers.
+ * An artist scores the sum of their artworks. A seller scores 10 per
+ * follower plus their rating.
+ */
+@Service
+public class SuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestService.class);
+
+    private static final String ARTWORK_SQL =
+            "SELECT a.id, a.artwork_name, a.artist, "
+                    + "(SELECT COUNT(*) FROM sale s WHERE s.artwork_id = a.id) AS sales, "
+                    + "(SELECT COUNT(*) FROM followers f WHERE f.seller_id = a.seller_id) AS followers "
+                    + "FROM art_work a";
+    private static final String SELLER_SQL =
+            "SELECT s.seller_id, s.business_name, s.rate, "
+                    + "(SELECT COUNT(*) FROM followers f WHERE f.seller_id = s.seller_id) AS followers "
+                    + "FROM sellers s WHERE s.business_name IS NOT NULL";
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${artify.suggest.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    @Value("${artify.suggest.change-delay-seconds:15}")
+    private long changeDelaySeconds;
+
+    private final AtomicReference<PrefixIndex<SuggestionDTO>> current = new AtomicReference<>(PrefixIndex.empty());
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "suggest-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuilder.scheduleWithFixedDelay(this::rebuild, 0, refreshMinutes, TimeUnit.MINUTES);
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return current.get().lookup(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    // coalesce bursts of changes into one rebuild a few seconds later
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtworkChanged(ArtworkChangedEvent event) {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuild, changeDelaySeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    void rebuild() {
+        rebuildPending.set(false);
+        long started = System.currentTimeMillis();
+        try {
+            List<PrefixIndex.Entry<SuggestionDTO>> entries = new ArrayList<>();
+            Map<String, long[]> artists = new HashMap<>();
+            Map<String, String> artistNames = new HashMap<>();
+            jdbcTemplate.query(ARTWORK_SQL, rs -> {
+                String name = rs.getString("artwork_name");
+                long score = rs.getLong("sales") * 10 + rs.getLong("followers");
+                if (name != null && !name.isBlank()) {
+                    entries.add(new PrefixIndex.Entry<>(name,
+                            new SuggestionDTO(name, Kind.ARTWORK, rs.getLong("id")), score));
+                }
+                String artist = rs.getString("artist");
+                if (artist != null && !artist.isBlank()) {
+                    String key = artist.trim().toLowerCase();
+                    artistNames.putIfAbsent(key, artist.trim());
+                    artists.computeIfAbsent(key, k -> new long[1])[0] += score + 1;
+                }
+            });
+            artists.forEach((key, score) -> {
+                String artist = artistNames.get(key);
+                entries.add(new PrefixIndex.Entry<>(artist, new SuggestionDTO(artist, Kind.ARTIST, null), score[0]));
+            });
+            jdbcTemplate.query(SELLER_SQL, rs -> {
+                String name = rs.getString("business_name");
+                if (!name.isBlank()) {
+                    long score = rs.getLong("followers") * 10 + rs.getInt("rate");
+                    entries.add(new PrefixIndex.Entry<>(name,
+                            new SuggestionDTO(name, Kind.SELLER, rs.getLong("seller_id")), score));
+                }
+            });
+            PrefixIndex<SuggestionDTO> built = PrefixIndex.build(entries, MAX_SUGGESTIONS);
+            current.set(built);
+            log.debug("Suggest index rebuilt with {} entries in {} ms", built.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("Suggest index rebuild failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package lk.artify.backend.service;
+
+public class UploadLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean retryable;
+
+    public UploadLimitExceededException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    // true when the server is only busy, false when the request itself is too large
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,81 @@
+package lk.artify.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many upload bytes one request may carry and how many bytes all
+ * requests together may be receiving at once. The per-request cap is the
+ * multipart max-request-size, and reservations are taken by UploadLimitFilter
+ * before the multipart body is read, so the budget bounds what is spooled to
+ * disk. Budgets are counted in KiB so a semaphore's int permits cover
+ * multi-GB limits.
+ */
+@Service
+public class UploadLimiter {
+
+    private final long maxRequestBytes;
+    private final long acquireTimeoutMillis;
+    private final int maxInFlightKib;
+    private final Semaphore inFlight;
+
+    public UploadLimiter(@Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize,
+                         @Value("${artify.upload.max-in-flight-bytes:268435456}") long maxInFlightBytes,
+                         @Value("${artify.upload.acquire-timeout-ms:10000}") long acquireTimeoutMillis) {
+        this.maxRequestBytes = maxRequestSize.toBytes();
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.maxInFlightKib = toKib(maxInFlightBytes);
+        this.inFlight = new Semaphore(maxInFlightKib, true);
+    }
+
+    public long maxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    public Reservation reserve(long bytes) {
+        if (bytes > maxRequestBytes) {
+            throw new UploadLimitExceededException(
+                    "Upload of " + bytes + " bytes exceeds the per-request limit of " + maxRequestBytes, false);
+        }
+        int kib = Math.min(toKib(bytes), maxInFlightKib);
+        try {
+            if (!inFlight.tryAcquire(kib, acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new UploadLimitExceededException("Too many uploads in progress, try again shortly", true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadLimitExceededException("Interrupted while waiting for upload capacity", true);
+        }
+        return new Reservation(kib);
+    }
+
+    public long availableBytes() {
+        return (long) inFlight.availablePermits() * 1024;
+    }
+
+    private static int toKib(long bytes) {
+        return (int) Math.min(Integer.MAX_VALUE, (bytes + 1023) / 1024);
+    }
+
+    public class Reservation implements AutoCloseable {
+
+        private final int kib;
+        private boolean released;
+
+        private Reservation(int kib) {
+            this.kib = kib;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                inFlight.release(kib);
+            }
+        }
+    }
+}
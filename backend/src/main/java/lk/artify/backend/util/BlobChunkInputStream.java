@@ -0,0 +1,97 @@
+package lk.artify.backend.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a BLOB column in fixed-size windows using SUBSTRING, so only one chunk
+ * is ever held on the heap no matter how large the stored value is.
+ * skip() only moves the read position, which makes Range requests cheap.
+ */
+public class BlobChunkInputStream extends InputStream {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final Object key;
+    private final long length;
+    private final int chunkSize;
+
+    private byte[] chunk = new byte[0];
+    private int chunkPos;
+    private long position;
+
+    /**
+     * @param sql query taking (offset, length, key) and returning a single binary column,
+     *            e.g. {@code SELECT SUBSTRING(data, ?, ?) FROM t WHERE id = ?}
+     */
+    public BlobChunkInputStream(JdbcTemplate jdbcTemplate, String sql, Object key, long length, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = sql;
+        this.key = key;
+        this.length = length;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        position++;
+        return chunk[chunkPos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.length - chunkPos);
+        System.arraycopy(chunk, chunkPos, b, off, n);
+        chunkPos += n;
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, length - position));
+        long inChunk = chunk.length - chunkPos;
+        if (skipped < inChunk) {
+            chunkPos += (int) skipped;
+        } else {
+            chunk = new byte[0];
+            chunkPos = 0;
+        }
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - chunkPos;
+    }
+
+    private boolean fill() throws IOException {
+        if (chunkPos < chunk.length) {
+            return true;
+        }
+        if (position >= length) {
+            return false;
+        }
+        int size = (int) Math.min(chunkSize, length - position);
+        // SUBSTRING is 1-based
+        byte[] next = jdbcTemplate.queryForObject(sql, byte[].class, position + 1, size, key);
+        if (next == null || next.length == 0) {
+            throw new IOException("Blob ended early at offset " + position + " of " + length);
+        }
+        chunk = next;
+        chunkPos = 0;
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package lk.artify.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over (addedDate, id), encoded as URL-safe base64.
+ */
+public final class FeedCursor {
+
+    private final LocalDate addedDate;
+    private final long id;
+
+    public FeedCursor(LocalDate addedDate, long id) {
+        this.addedDate = addedDate;
+        this.id = id;
+    }
+
+    public LocalDate getAddedDate() {
+        return addedDate;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = addedDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            return new FeedCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
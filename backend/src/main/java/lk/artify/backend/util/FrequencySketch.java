@@ -0,0 +1,78 @@
+package lk.artify.backend.util;
+
+/**
+ * Count-min sketch of 4-bit counters, used as the TinyLFU admission filter.
+ * Counters are halved once the sample period is reached so old popularity fades.
+ * Not thread-safe; callers synchronize.
+ */
+public class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int mask;
+    private final int samplePeriod;
+    private int additions;
+
+    public FrequencySketch(int expectedItems) {
+        int capacity = Integer.highestOneBit(Math.max(64, expectedItems) - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+        this.samplePeriod = 10 * capacity;
+    }
+
+    public int frequency(Object item) {
+        int hash = spread(item.hashCode());
+        int min = 15;
+        for (int i = 0; i < 4; i++) {
+            min = Math.min(min, counter(hash, i));
+        }
+        return min;
+    }
+
+    public void increment(Object item) {
+        int hash = spread(item.hashCode());
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int slot = slot(hash, i);
+            int shift = shift(hash, i);
+            if (((table[slot] >>> shift) & 0xFL) < 15) {
+                table[slot] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= samplePeriod) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int counter(int hash, int row) {
+        return (int) ((table[slot(hash, row)] >>> shift(hash, row)) & 0xFL);
+    }
+
+    private int slot(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    // each row picks its own nibble out of the 16 in the slot
+    private static int shift(int hash, int row) {
+        return ((hash >>> (row << 3)) & 0xF) << 2;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
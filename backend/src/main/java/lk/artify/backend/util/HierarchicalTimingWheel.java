@@ -0,0 +1,140 @@
+package lk.artify.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one slot per tick; each higher level
+ * has slots `wheelSize` times wider than the one below. A timer sits in the
+ * lowest level whose window still reaches its deadline. When a higher slot
+ * comes due, its timers are re-inserted and cascade down, so scheduling and
+ * expiry are O(1) amortized however many timers are pending.
+ *
+ * Timers beyond the top level's window park in its furthest slot and are
+ * re-inserted when it comes up. A timer fires on the first advance at or
+ * after the end of its deadline's tick, never before the deadline.
+ *
+ * Not thread-safe: one thread schedules and advances.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private record Timer<T>(T item, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] slotTicks;
+    private final List<Timer<T>>[][] slots;
+    private final List<Timer<T>> overdue = new ArrayList<>();
+    // index of the next tick to expire; every earlier tick has fired
+    private long cursor;
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.slotTicks = new long[levels];
+        this.slots = new List[levels][wheelSize];
+        long width = 1;
+        for (int level = 0; level < levels; level++) {
+            slotTicks[level] = width;
+            width = Math.multiplyExact(width, wheelSize);
+        }
+        this.cursor = startMillis / tickMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        insert(new Timer<>(item, Math.floorDiv(deadlineMillis, tickMillis)));
+        size++;
+    }
+
+    /** Fires every timer whose tick ended at or before nowMillis. */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        if (!overdue.isEmpty()) {
+            List<Timer<T>> due = new ArrayList<>(overdue);
+            overdue.clear();
+            fire(due, expired);
+        }
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (cursor < target) {
+            long tick = cursor;
+            for (int level = slotTicks.length - 1; level > 0; level--) {
+                if (tick % slotTicks[level] == 0) {
+                    List<Timer<T>> cascading = take(level, (int) ((tick / slotTicks[level]) % wheelSize));
+                    if (cascading != null) {
+                        for (Timer<T> timer : cascading) {
+                            insert(timer);
+                        }
+                    }
+                }
+            }
+            List<Timer<T>> due = take(0, (int) (tick % wheelSize));
+            cursor++;
+            if (due != null) {
+                for (Timer<T> timer : due) {
+                    if (timer.deadlineTick() > tick) {
+                        // parked past the horizon of a single-level wheel
+                        insert(timer);
+                    } else {
+                        size--;
+                        expired.accept(timer.item());
+                    }
+                }
+            }
+        }
+    }
+
+    private void fire(List<Timer<T>> due, Consumer<T> expired) {
+        for (Timer<T> timer : due) {
+            size--;
+            expired.accept(timer.item());
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long deadline = timer.deadlineTick();
+        if (deadline < cursor) {
+            overdue.add(timer);
+            return;
+        }
+        if (deadline - cursor < wheelSize) {
+            add(0, (int) (deadline % wheelSize), timer);
+            return;
+        }
+        int top = slotTicks.length - 1;
+        for (int level = 1; level <= top; level++) {
+            long slot = deadline / slotTicks[level];
+            long current = cursor / slotTicks[level];
+            // the slot must come up after the cursor and within one rotation
+            if (slot > current && slot - current < wheelSize) {
+                add(level, (int) (slot % wheelSize), timer);
+                return;
+            }
+        }
+        add(top, (int) ((cursor / slotTicks[top] + wheelSize - 1) % wheelSize), timer);
+    }
+
+    private void add(int level, int index, Timer<T> timer) {
+        List<Timer<T>> slot = slots[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            slots[level][index] = slot;
+        }
+        slot.add(timer);
+    }
+
+    private List<Timer<T>> take(int level, int index) {
+        List<Timer<T>> slot = slots[level][index];
+        slots[level][index] = null;
+        return slot;
+    }
+}
@@ -0,0 +1,177 @@
+package lk.artify.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Binary max-heap of bidders' maximum bids, one entry per user, in parallel
+ * primitive arrays. Entries order by amount, then by age, so of two equal
+ * maximums the one placed first ranks higher. Raising a user's maximum
+ * moves it up in place; the top two entries are always O(1) away. A user's
+ * position is found through an open-addressing table of primitive keys, so
+ * neither a raise nor a lookup allocates.
+ *
+ * Not thread-safe: one thread owns the heap.
+ */
+public final class MaxBidHeap {
+
+    private long[] amounts;
+    private long[] users;
+    private long[] placed;
+    // user id -> heap position + 1 with linear probing; 0 marks a free slot. Entries are never
+    // removed, so no tombstones are needed, and the table is kept at most half full.
+    private long[] slotUsers;
+    private int[] slotPositions;
+    private long nextPlaced;
+    private int size;
+
+    public MaxBidHeap() {
+        this(8);
+    }
+
+    public MaxBidHeap(int initialCapacity) {
+        int capacity = Math.max(2, initialCapacity);
+        this.amounts = new long[capacity];
+        this.users = new long[capacity];
+        this.placed = new long[capacity];
+        int slots = Integer.highestOneBit(capacity - 1) << 2;
+        this.slotUsers = new long[slots];
+        this.slotPositions = new int[slots];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The user's maximum, or -1 if the user has none. */
+    public long maximum(long userId) {
+        int position = position(userId);
+        return position >= 0 ? amounts[position] : -1;
+    }
+
+    /**
+     * Sets the user's maximum to the given amount if it is higher than the one
+     * held. A raise counts as a new bid when breaking ties. Returns whether
+     * anything changed.
+     */
+    public boolean raise(long userId, long amount) {
+        int position = position(userId);
+        if (position >= 0) {
+            if (amount <= amounts[position]) {
+                return false;
+            }
+            amounts[position] = amount;
+            placed[position] = nextPlaced++;
+            siftUp(position);
+            return true;
+        }
+        if (size == amounts.length) {
+            int capacity = size * 2;
+            amounts = Arrays.copyOf(amounts, capacity);
+            users = Arrays.copyOf(users, capacity);
+            placed = Arrays.copyOf(placed, capacity);
+        }
+        amounts[size] = amount;
+        users[size] = userId;
+        placed[size] = nextPlaced++;
+        if ((size + 1) * 2 > slotUsers.length) {
+            rehash(slotUsers.length * 2);
+        }
+        place(userId, size);
+        siftUp(size++);
+        return true;
+    }
+
+    public long topUser() {
+        requireEntries(1);
+        return users[0];
+    }
+
+    public long topAmount() {
+        requireEntries(1);
+        return amounts[0];
+    }
+
+    /** The runner-up's maximum, or -1 when there is at most one entry. */
+    public long secondAmount() {
+        if (size < 2) {
+            return -1;
+        }
+        return size == 2 || ranksAbove(1, 2) ? amounts[1] : amounts[2];
+    }
+
+    private int slot(long userId) {
+        // Fibonacci hashing spreads sequential ids across the table
+        return (int) ((userId * 0x9E3779B97F4A7C15L) >>> 32) & (slotUsers.length - 1);
+    }
+
+    // heap position of the user, or -1
+    private int position(long userId) {
+        int mask = slotUsers.length - 1;
+        for (int i = slot(userId); ; i = (i + 1) & mask) {
+            if (slotPositions[i] == 0) {
+                return -1;
+            }
+            if (slotUsers[i] == userId) {
+                return slotPositions[i] - 1;
+            }
+        }
+    }
+
+    private void place(long userId, int position) {
+        int mask = slotUsers.length - 1;
+        for (int i = slot(userId); ; i = (i + 1) & mask) {
+            if (slotPositions[i] == 0 || slotUsers[i] == userId) {
+                slotUsers[i] = userId;
+                slotPositions[i] = position + 1;
+                return;
+            }
+        }
+    }
+
+    private void rehash(int slots) {
+        slotUsers = new long[slots];
+        slotPositions = new int[slots];
+        for (int i = 0; i < size; i++) {
+            place(users[i], i);
+        }
+    }
+
+    private void requireEntries(int count) {
+        if (size < count) {
+            throw new IllegalStateException("No maximum bids");
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(position, parent)) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private boolean ranksAbove(int a, int b) {
+        return amounts[a] > amounts[b] || (amounts[a] == amounts[b] && placed[a] < placed[b]);
+    }
+
+    private void swap(int a, int b) {
+        long amount = amounts[a];
+        long user = users[a];
+        long order = placed[a];
+        amounts[a] = amounts[b];
+        users[a] = users[b];
+        placed[a] = placed[b];
+        amounts[b] = amount;
+        users[b] = user;
+        placed[b] = order;
+        place(users[a], a);
+        place(users[b], b);
+    }
+}
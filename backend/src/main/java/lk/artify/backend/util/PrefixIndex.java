@@ -0,0 +1,331 @@
+package lk.artify.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable radix trie for typeahead. Every word start of every key is inserted,
+ * so "galle" finds "Sunset over Galle". Each node stores its top entries by
+ * score, so a lookup walks the prefix and copies one precomputed list.
+ *
+ * Nodes live in parallel int arrays, and edge labels are slices of one char
+ * pool. A lookup allocates nothing except the returned list.
+ */
+public final class PrefixIndex<T> {
+
+    // lower-case, accent-free form of every char in Latin-1 and Latin Extended-A
+    private static final char[] FOLD = new char[0x180];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            String folded = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD)
+                    .replaceAll("\\p{M}+", "")
+                    .toLowerCase(Locale.ROOT);
+            FOLD[c] = folded.length() == 1 ? folded.charAt(0) : Character.toLowerCase(c);
+        }
+    }
+
+    public record Entry<T>(String text, T value, long score) {
+    }
+
+    private final Object[] values;
+    private final char[] labels;
+    private final int[] labelStart;
+    private final int[] labelLength;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topLength;
+    private final int[] tops;
+
+    private PrefixIndex(Object[] values, char[] labels, int[] labelStart, int[] labelLength,
+                        int[] firstChild, int[] childCount, int[] topStart, int[] topLength, int[] tops) {
+        this.values = values;
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topLength = topLength;
+        this.tops = tops;
+    }
+
+    public static <T> PrefixIndex<T> empty() {
+        return build(List.of(), 1);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Up to min(limit, topK) values whose text has a word starting with prefix, best score first.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> lookup(CharSequence prefix, int limit) {
+        int node = 0;
+        int depth = 0;
+        boolean lastSpace = true;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = fold(prefix.charAt(i));
+            if (Character.isWhitespace(c)) {
+                if (lastSpace) {
+                    continue;
+                }
+                c = ' ';
+                lastSpace = true;
+            } else {
+                lastSpace = false;
+            }
+            if (depth == labelLength[node]) {
+                node = child(node, c);
+                if (node < 0) {
+                    return Collections.emptyList();
+                }
+                depth = 0;
+            }
+            if (labels[labelStart[node] + depth] != c) {
+                return Collections.emptyList();
+            }
+            depth++;
+        }
+        int n = Math.min(limit, topLength[node]);
+        List<T> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add((T) values[tops[topStart[node] + i]]);
+        }
+        return result;
+    }
+
+    private int child(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                lo = mid + 1;
+            } else if (first > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    static char fold(char c) {
+        return c < FOLD.length ? FOLD[c] : Character.toLowerCase(c);
+    }
+
+    // folded text with whitespace runs collapsed to one space and trimmed
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean lastSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (Character.isWhitespace(c)) {
+                if (!lastSpace) {
+                    sb.append(' ');
+                }
+                lastSpace = true;
+            } else {
+                sb.append(c);
+                lastSpace = false;
+            }
+        }
+        int end = sb.length();
+        while (end > 0 && sb.charAt(end - 1) == ' ') {
+            end--;
+        }
+        sb.setLength(end);
+        return sb.toString();
+    }
+
+    public static <T> PrefixIndex<T> build(List<Entry<T>> entries, int topK) {
+        // entry ids are assigned in score order, so a smaller id always ranks higher
+        List<Entry<T>> ranked = new ArrayList<>(entries);
+        ranked.sort(Comparator.comparingLong((Entry<T> e) -> e.score()).reversed()
+                .thenComparing(Entry::text));
+        Object[] values = new Object[ranked.size()];
+
+        List<String> keys = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int id = 0; id < ranked.size(); id++) {
+            values[id] = ranked.get(id).value();
+            String key = normalize(ranked.get(id).text());
+            for (int i = 0; i < key.length(); i++) {
+                if (i == 0 || key.charAt(i - 1) == ' ') {
+                    keys.add(key.substring(i));
+                    owners.add(id);
+                }
+            }
+        }
+        Integer[] order = new Integer[keys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(keys::get));
+        String[] sortedKeys = new String[order.length];
+        int[] sortedOwners = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys.get(order[i]);
+            sortedOwners[i] = owners.get(order[i]);
+        }
+
+        Builder builder = new Builder(sortedKeys, sortedOwners, Math.max(1, topK));
+        builder.buildRoot();
+        return new PrefixIndex<>(values, builder.labels.toString().toCharArray(),
+                builder.labelStart.toArray(), builder.labelLength.toArray(),
+                builder.firstChild.toArray(), builder.childCount.toArray(),
+                builder.topStart.toArray(), builder.topLength.toArray(), builder.tops.toArray());
+    }
+
+    private static final class Builder {
+
+        private final String[] keys;
+        private final int[] owners;
+        private final int topK;
+
+        private final StringBuilder labels = new StringBuilder();
+        private final IntList labelStart = new IntList();
+        private final IntList labelLength = new IntList();
+        private final IntList firstChild = new IntList();
+        private final IntList childCount = new IntList();
+        private final IntList topStart = new IntList();
+        private final IntList topLength = new IntList();
+        private final IntList tops = new IntList();
+
+        Builder(String[] keys, int[] owners, int topK) {
+            this.keys = keys;
+            this.owners = owners;
+            this.topK = topK;
+        }
+
+        void buildRoot() {
+            int root = newNode("");
+            // the root has an empty label, so matching starts at its children
+            fill(root, 0, keys.length, 0);
+        }
+
+        private int newNode(String label) {
+            int node = labelStart.size();
+            labelStart.add(labels.length());
+            labelLength.add(label.length());
+            labels.append(label);
+            firstChild.add(0);
+            childCount.add(0);
+            topStart.add(0);
+            topLength.add(0);
+            return node;
+        }
+
+        // keys[lo, hi) all share the first `depth` chars, which this node already covers
+        private int[] fill(int node, int lo, int hi, int depth) {
+            List<int[]> groups = new ArrayList<>();
+            int[] terminal = new int[0];
+            int i = lo;
+            while (i < hi && keys[i].length() == depth) {
+                i++;
+            }
+            if (i > lo) {
+                terminal = new int[i - lo];
+                for (int k = lo; k < i; k++) {
+                    terminal[k - lo] = owners[k];
+                }
+            }
+            while (i < hi) {
+                char c = keys[i].charAt(depth);
+                int j = i + 1;
+                while (j < hi && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                groups.add(new int[]{i, j});
+                i = j;
+            }
+
+            int first = labelStart.size();
+            int[] children = new int[groups.size()];
+            int[] ends = new int[groups.size()];
+            for (int g = 0; g < groups.size(); g++) {
+                int[] range = groups.get(g);
+                int end = commonPrefix(keys[range[0]], keys[range[1] - 1], depth);
+                children[g] = newNode(keys[range[0]].substring(depth, end));
+                ends[g] = end;
+            }
+            firstChild.set(node, first);
+            childCount.set(node, groups.size());
+
+            int[] best = terminal;
+            for (int g = 0; g < groups.size(); g++) {
+                best = merge(best, fill(children[g], groups.get(g)[0], groups.get(g)[1], ends[g]));
+            }
+            Arrays.sort(best);
+            best = distinctTop(best);
+            topStart.set(node, tops.size());
+            topLength.set(node, best.length);
+            for (int id : best) {
+                tops.add(id);
+            }
+            return best;
+        }
+
+        private int[] merge(int[] a, int[] b) {
+            int[] all = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, all, a.length, b.length);
+            Arrays.sort(all);
+            return distinctTop(all);
+        }
+
+        private int[] distinctTop(int[] sorted) {
+            int[] out = new int[Math.min(sorted.length, topK)];
+            int n = 0;
+            for (int k = 0; k < sorted.length && n < out.length; k++) {
+                if (n == 0 || out[n - 1] != sorted[k]) {
+                    out[n++] = sorted[k];
+                }
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+
+        private static int commonPrefix(String a, String b, int from) {
+            int end = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < end && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] data = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        void set(int index, int value) {
+            data[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
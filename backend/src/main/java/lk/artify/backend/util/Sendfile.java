@@ -0,0 +1,30 @@
+package lk.artify.backend.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.File;
+
+/**
+ * Hands a file to Tomcat's sendfile support so the kernel copies it straight
+ * to the socket. The caller sets the response headers and writes no body.
+ */
+public final class Sendfile {
+
+    private static final String SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String START = "org.apache.tomcat.sendfile.start";
+    private static final String END = "org.apache.tomcat.sendfile.end";
+
+    private Sendfile() {
+    }
+
+    public static boolean isSupported(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(SUPPORT));
+    }
+
+    public static void send(HttpServletRequest request, File file, long length) {
+        request.setAttribute(FILENAME, file.getAbsolutePath());
+        request.setAttribute(START, 0L);
+        request.setAttribute(END, length);
+    }
+}
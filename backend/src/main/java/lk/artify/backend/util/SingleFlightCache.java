@@ -0,0 +1,173 @@
+package lk.artify.backend.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache that coalesces concurrent misses: the first caller for a
+ * key runs the loader and everyone else arriving meanwhile waits for the same
+ * result. Null results are returned but not cached. Invalidating a key also
+ * detaches any load in flight, so a value read before the change is never
+ * stored after it.
+ */
+public class SingleFlightCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > SingleFlightCache.this.maxEntries;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        V cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            store(key, created, value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    /**
+     * Cached values for keys, loading every miss that nobody else is already
+     * loading with one bulkLoader call. Keys with no value are left out.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> found = new HashMap<>();
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> waiting = new HashMap<>();
+        for (K key : keys) {
+            V cached = cached(key);
+            if (cached != null) {
+                found.put(key, cached);
+                continue;
+            }
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = loading.putIfAbsent(key, created);
+            if (existing != null) {
+                waiting.put(key, existing);
+            } else {
+                owned.putIfAbsent(key, created);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            try {
+                Map<K, V> loaded = bulkLoader.apply(owned.keySet());
+                owned.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    store(key, future, value);
+                    if (value != null) {
+                        found.put(key, value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(loading::remove);
+            }
+        }
+        waiting.forEach((key, future) -> {
+            V value = join(future);
+            if (value != null) {
+                found.put(key, value);
+            }
+        });
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = found.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    // stores a value obtained elsewhere unless the key is cached or being loaded
+    public void putIfAbsent(K key, V value) {
+        synchronized (entries) {
+            if (!loading.containsKey(key) && !entries.containsKey(key)) {
+                entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            loading.remove(key);
+            entries.remove(key);
+        }
+    }
+
+    private V cached(K key) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.value : null;
+    }
+
+    private void store(K key, CompletableFuture<V> future, V value) {
+        if (value != null) {
+            synchronized (entries) {
+                // still ours only if no invalidate() ran while loading
+                if (loading.remove(key, future)) {
+                    entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+        }
+        future.complete(value);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
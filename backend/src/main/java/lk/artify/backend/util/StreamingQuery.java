@@ -0,0 +1,25 @@
+package lk.artify.backend.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Prepares a forward-only read whose rows are streamed instead of buffered
+ * whole in memory. MySQL Connector/J only streams when the fetch size is
+ * Integer.MIN_VALUE, one row at a time over the open result, which needs no
+ * useCursorFetch on the datasource; other drivers get the given fetch size.
+ * The connection can run nothing else until the result has been read.
+ */
+public final class StreamingQuery {
+
+    private StreamingQuery() {
+    }
+
+    public static PreparedStatement prepare(Connection con, String sql, int fetchSize) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize("MySQL".equals(con.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : fetchSize);
+        return ps;
+    }
+}
@@ -0,0 +1,50 @@
+package lk.artify.backend.util;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+
+/**
+ * A Resource with a known length whose stream is opened lazily, so Spring's
+ * Range support can build regions without reading the content first.
+ */
+public class StreamingResource extends AbstractResource {
+
+    private final String description;
+    private final long length;
+    private final Callable<InputStream> opener;
+
+    public StreamingResource(String description, long length, Callable<InputStream> opener) {
+        this.description = description;
+        this.length = length;
+        this.opener = opener;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        try {
+            return opener.call();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not open " + description, e);
+        }
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,145 @@
+package lk.artify.backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of accepted bids and maximum bids in fixed-size binary
+ * records, each one CRC-checked. Appends are buffered until {@link #sync()},
+ * which writes them and forces them to disk. Callers batch several appends
+ * per sync.
+ *
+ * Opening the log drops a torn or corrupt tail left by a crash mid-write.
+ */
+public final class WriteAheadLog implements Closeable {
+
+    // a bid placed at amountCents
+    public static final byte BID = 0;
+    // a standing maximum of amountCents, which the engine bids from on the user's behalf
+    public static final byte MAX_BID = 1;
+
+    // seq, type, auctionId, userId, amountCents, timestampMillis, crc
+    public static final int RECORD_BYTES = 5 * Long.BYTES + 1 + Integer.BYTES;
+
+    public record Record(long sequence, byte type, long auctionId, long userId, long amountCents, long timestampMillis) {
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final List<Record> recovered;
+    private ByteBuffer pending;
+
+    private WriteAheadLog(Path path, FileChannel channel, List<Record> recovered, int batchCapacity) {
+        this.path = path;
+        this.channel = channel;
+        this.recovered = recovered;
+        this.pending = ByteBuffer.allocateDirect(RECORD_BYTES * Math.max(1, batchCapacity));
+    }
+
+    public static WriteAheadLog open(Path path, int batchCapacity) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        List<Record> records = new ArrayList<>();
+        ByteBuffer buf = ByteBuffer.allocate(RECORD_BYTES);
+        long valid = 0;
+        channel.position(0);
+        while (true) {
+            buf.clear();
+            while (buf.hasRemaining() && channel.read(buf) > 0) {
+                // keep reading until the record is complete or the file ends
+            }
+            if (buf.hasRemaining()) {
+                break;
+            }
+            buf.flip();
+            Record record = new Record(buf.getLong(), buf.get(), buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong());
+            int crc = buf.getInt();
+            if (crc != checksum(buf, RECORD_BYTES - Integer.BYTES)) {
+                break;
+            }
+            records.add(record);
+            valid += RECORD_BYTES;
+        }
+        if (channel.size() > valid) {
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+        return new WriteAheadLog(path, channel, records, batchCapacity);
+    }
+
+    /** Records found when the log was opened, in append order. */
+    public List<Record> recovered() {
+        return recovered;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public void append(Record record) {
+        if (pending.remaining() < RECORD_BYTES) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(pending.capacity() * 2);
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        int start = pending.position();
+        pending.putLong(record.sequence())
+                .put(record.type())
+                .putLong(record.auctionId())
+                .putLong(record.userId())
+                .putLong(record.amountCents())
+                .putLong(record.timestampMillis());
+        ByteBuffer body = pending.duplicate();
+        body.position(start);
+        pending.putInt(checksum(body.slice(), RECORD_BYTES - Integer.BYTES));
+    }
+
+    /** Writes every pending append and forces it to disk; a no-op when nothing is pending. */
+    public void sync() throws IOException {
+        if (pending.position() == 0) {
+            return;
+        }
+        pending.flip();
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        pending.clear();
+        channel.force(false);
+    }
+
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    // only safe once every record in the file is persisted elsewhere
+    public void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int checksum(ByteBuffer buf, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer view = buf.duplicate();
+        view.position(0);
+        view.limit(length);
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+}
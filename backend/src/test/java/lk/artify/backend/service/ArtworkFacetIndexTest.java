@@ -0,0 +1,147 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.ArtworkBrowsePageDTO;
+import lk.artify.backend.dto.ArtworkHomeDTO;
+import lk.artify.backend.model.ArtWork.SellingStatus;
+import lk.artify.backend.service.ArtworkFacetIndex.Facet;
+import lk.artify.backend.service.ArtworkFacetIndex.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArtworkFacetIndexTest {
+
+    // longest edges: 300 mm medium, 290 mm small, 1016 mm large, digital, 305 mm medium, 1500 mm large
+    private static final List<ArtworkDocument> DOCUMENTS = List.of(
+            doc(1, "Painting", "Oil", "50.00", SellingStatus.AVAILABLE, "cm", 20, 30, null),
+            doc(2, "Painting", "Acrylic", "100.00", SellingStatus.AVAILABLE, "cm", 29, 10, null),
+            doc(3, "Sculpture", "Bronze", "499.99", SellingStatus.SOLD_OUT, "in", 40, 40, 40),
+            doc(4, "Photography", "Digital", "1000.00", SellingStatus.AVAILABLE, "px", 3000, 2000, null),
+            doc(5, "Painting", "Oil", "5000.00", SellingStatus.PENDING_AUCTION, "in", 12, 12, null),
+            doc(6, "Sculpture", "Marble", "99.99", SellingStatus.AVAILABLE, "cm", 100, 150, 80));
+
+    private ArtworkFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArtworkFacetIndex();
+        DOCUMENTS.forEach(index::put);
+    }
+
+    @Test
+    void oneFacetFiltersButItsOwnCountsIgnoreTheSelection() {
+        ArtworkBrowsePageDTO page = browse(new Query().select(Facet.TYPE, Set.of("Painting")));
+
+        assertEquals(List.of(5L, 2L, 1L), ids(page));
+        assertEquals(3, page.getTotal());
+        assertEquals(Map.of("Painting", 3, "Photography", 1, "Sculpture", 2), page.getFacets().get("type"));
+        assertEquals(Map.of("AVAILABLE", 2, "PENDING_AUCTION", 1), page.getFacets().get("sellingStatus"));
+    }
+
+    @Test
+    void valuesOrWithinAFacetAndFacetsAndTogether() {
+        ArtworkBrowsePageDTO page = browse(new Query()
+                .select(Facet.TYPE, Set.of("Painting", "Sculpture"))
+                .select(Facet.SELLING_STATUS, Set.of("AVAILABLE")));
+
+        assertEquals(List.of(6L, 2L, 1L), ids(page));
+        assertEquals(Map.of("Painting", 2, "Photography", 1, "Sculpture", 1), page.getFacets().get("type"));
+        assertEquals(Map.of("AVAILABLE", 3, "PENDING_AUCTION", 1, "SOLD_OUT", 1),
+                page.getFacets().get("sellingStatus"));
+    }
+
+    @Test
+    void priceRangeIncludesBothBoundsAndNarrowsThePriceCounts() {
+        assertEquals(List.of(3L, 2L), ids(browse(new Query().price(10000L, 49999L))));
+        assertEquals(List.of(2L), ids(browse(new Query().price(10000L, 49998L))));
+        assertEquals(List.of(2L), ids(browse(new Query().price(10000L, 10000L))));
+        assertEquals(List.of(6L, 1L), ids(browse(new Query().price(null, 9999L))));
+        assertEquals(List.of(5L), ids(browse(new Query().price(500000L, null))));
+
+        ArtworkBrowsePageDTO page = browse(new Query().price(10000L, 100000L));
+        assertEquals(Map.of("100-500", 2, "1000-5000", 1), page.getFacets().get("price"));
+    }
+
+    @Test
+    void sizeRangesCompareMillimetresAndLeavePixelWorksOut() {
+        // 20 cm is 200 mm; 12 in rounds to 305 mm
+        assertEquals(List.of(1L), ids(browse(new Query().size(0, 200L, 200L))));
+        assertEquals(List.of(5L, 2L), ids(browse(new Query().size(0, 201L, 305L))));
+        assertEquals(List.of(2L), ids(browse(new Query().size(0, 201L, 304L))));
+        // a 3000 px width is not 3000 mm, so the digital work matches no size range
+        assertEquals(List.of(6L, 5L, 3L, 2L, 1L), ids(browse(new Query().size(0, 0L, null))));
+        assertEquals(List.of(3L), ids(browse(new Query().size(2, 1000L, null))));
+
+        assertEquals(Map.of("digital", 1, "large", 2, "medium", 2, "small", 1),
+                browse(new Query()).getFacets().get("size"));
+        // 40 in is 1016 mm, so the bronze is just inside; the 1500 mm marble is not
+        assertEquals(Map.of("large", 1, "medium", 2, "small", 1),
+                browse(new Query().size(1, 0L, 1016L)).getFacets().get("size"));
+        assertEquals(Map.of("medium", 2, "small", 1),
+                browse(new Query().size(1, 0L, 1015L)).getFacets().get("size"));
+    }
+
+    @Test
+    void rebuildAnswersLikeIncrementalUpdates() {
+        // incrementally: shuffled inserts, a price change and a removal
+        List<ArtworkDocument> shuffled = new ArrayList<>(DOCUMENTS);
+        Collections.shuffle(shuffled, new Random(3));
+        ArtworkFacetIndex incremental = new ArtworkFacetIndex();
+        shuffled.forEach(incremental::put);
+        ArtworkDocument repriced = doc(2, "Painting", "Acrylic", "750.00", SellingStatus.AVAILABLE, "cm", 29, 10, null);
+        incremental.put(repriced);
+        incremental.remove(4);
+
+        // the same final catalog bulk-loaded in another order and sorted once
+        List<ArtworkDocument> current = new ArrayList<>(List.of(DOCUMENTS.get(5), DOCUMENTS.get(2), repriced,
+                DOCUMENTS.get(0), DOCUMENTS.get(4)));
+        ArtworkFacetIndex.Segment segment = new ArtworkFacetIndex.Segment();
+        current.forEach(segment::append);
+        segment.sort();
+        ArtworkFacetIndex rebuilt = new ArtworkFacetIndex();
+        rebuilt.replace(segment);
+
+        List<Supplier<Query>> queries = List.of(
+                Query::new,
+                () -> new Query().select(Facet.TYPE, Set.of("Painting")),
+                () -> new Query().price(10000L, 100000L),
+                () -> new Query().size(0, 200L, 400L).select(Facet.SELLING_STATUS, Set.of("AVAILABLE")),
+                () -> new Query().select(Facet.PRICE, Set.of("500-1000", "0-100")));
+        for (Supplier<Query> query : queries) {
+            ArtworkBrowsePageDTO expected = incremental.browse(query.get(), 0, 10);
+            ArtworkBrowsePageDTO actual = rebuilt.browse(query.get(), 0, 10);
+            assertEquals(ids(expected), ids(actual));
+            assertEquals(expected.getTotal(), actual.getTotal());
+            assertEquals(expected.getFacets(), actual.getFacets());
+        }
+        assertEquals(List.of(6L, 5L, 3L, 2L, 1L), ids(rebuilt.browse(new Query(), 0, 10)));
+        assertEquals(List.of(2L), ids(rebuilt.browse(new Query().price(75000L, 75000L), 0, 10)));
+    }
+
+    private ArtworkBrowsePageDTO browse(Query query) {
+        return index.browse(query, 0, 10);
+    }
+
+    private static List<Long> ids(ArtworkBrowsePageDTO page) {
+        return page.getItems().stream().map(ArtworkHomeDTO::getId).toList();
+    }
+
+    // added one day apart in id order, so newest first is descending id
+    private static ArtworkDocument doc(long id, String type, String subType, String price, SellingStatus status,
+                                       String unit, Integer width, Integer height, Integer length) {
+        return new ArtworkDocument(id, "Artwork " + id, "Artist", type, subType, "", new BigDecimal(price), status,
+                LocalDate.of(2024, 1, 1).plusDays(id), true, null, 1L, null, null, false,
+                unit, width, height, length);
+    }
+}
@@ -0,0 +1,151 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.BidResultDTO;
+import lk.artify.backend.dto.BidResultDTO.Outcome;
+import lk.artify.backend.util.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Proxy bid resolution: the price a bid settles at when maximum bids stand.
+ * Increments are the larger of 1.00 and 5%, and the first bid must reach 10.00.
+ */
+class AuctionBiddingEngineTest {
+
+    private static final long AUCTION = 1;
+
+    @TempDir
+    Path walDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private BidPersister persister;
+    private AuctionBiddingEngine engine;
+    // every record handed to the persister, in order
+    private final List<WriteAheadLog.Record> logged = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doReturn(new AuctionState(AUCTION, null, Long.MIN_VALUE, Long.MAX_VALUE, null, 1000, 0, null, 0, false))
+                .when(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+        persister = mock(BidPersister.class);
+        when(persister.enqueue(anyInt(), anyList())).thenAnswer(invocation -> {
+            logged.addAll(invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        engine = new AuctionBiddingEngine(jdbcTemplate, persister, mock(ApplicationEventPublisher.class),
+                new BidIncrements(new BigDecimal("1.00"), 5), 1, 64, 16, walDir.toString(), 1 << 20, 16);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void firstMaximumOpensAtTheMinimumBid() throws Exception {
+        assertResult(Outcome.ACCEPTED, 1000, 10, proxy(10, 5000));
+    }
+
+    @Test
+    void defendedLeaderAnswersWithOneIncrementOverTheChallenge() throws Exception {
+        proxy(10, 5000);
+        // 3000 plus 5% is 3150, still under the leader's maximum
+        assertResult(Outcome.OUTBID, 3150, 10, proxy(20, 3000));
+        // a plain bid is answered the same way
+        assertResult(Outcome.OUTBID, 3780, 10, bid(30, 3600));
+    }
+
+    @Test
+    void defenceIsCappedByTheLeadersMaximum() throws Exception {
+        proxy(10, 5000);
+        // 4900 plus 5% would be 5145, but the leader only authorised 5000
+        assertResult(Outcome.OUTBID, 5000, 10, proxy(20, 4900));
+    }
+
+    @Test
+    void newLeaderPaysOneIncrementOverTheRunnerUp() throws Exception {
+        proxy(10, 5000);
+        proxy(20, 3000);
+        // 5000 plus 5% is 5250
+        assertResult(Outcome.ACCEPTED, 5250, 20, proxy(20, 8000));
+        // the new leader's maximum defends in turn
+        assertResult(Outcome.OUTBID, 6300, 20, bid(30, 6000));
+    }
+
+    @Test
+    void plainBidAboveEveryMaximumLeadsAtItsOwnAmount() throws Exception {
+        proxy(10, 5000);
+        assertResult(Outcome.ACCEPTED, 7000, 20, bid(20, 7000));
+    }
+
+    @Test
+    void equalMaximumsGoToTheEarlierOne() throws Exception {
+        proxy(10, 5000);
+        assertResult(Outcome.OUTBID, 5000, 10, proxy(20, 5000));
+    }
+
+    @Test
+    void leaderRaisingItsMaximumKeepsThePrice() throws Exception {
+        proxy(10, 5000);
+        proxy(20, 3000);
+        assertResult(Outcome.ACCEPTED, 3150, 10, proxy(10, 9000));
+        // the raised maximum now defends against what the old one could not
+        assertResult(Outcome.OUTBID, 6300, 10, proxy(30, 6000));
+    }
+
+    @Test
+    void maximumIsLoggedAheadOfItsStepWithoutTouchingTheDatabase() throws Exception {
+        proxy(10, 5000);
+        proxy(20, 3000);
+
+        assertEquals(List.of(
+                new Logged(WriteAheadLog.MAX_BID, 10, 5000),
+                new Logged(WriteAheadLog.BID, 10, 1000),
+                new Logged(WriteAheadLog.MAX_BID, 20, 3000),
+                new Logged(WriteAheadLog.BID, 10, 3150)),
+                logged.stream().map(r -> new Logged(r.type(), r.userId(), r.amountCents())).toList());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    private record Logged(byte type, long userId, long amountCents) {
+    }
+
+    private BidResultDTO proxy(long userId, long maxCents) throws Exception {
+        return engine.placeProxyBid(AUCTION, userId, maxCents).get(5, TimeUnit.SECONDS);
+    }
+
+    private BidResultDTO bid(long userId, long amountCents) throws Exception {
+        return engine.placeBid(AUCTION, userId, amountCents).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void assertResult(Outcome outcome, long priceCents, long leader, BidResultDTO result) {
+        assertEquals(outcome, result.getOutcome());
+        assertEquals(BigDecimal.valueOf(priceCents, 2), result.getAuction().getCurrentBid());
+        assertEquals(leader, result.getAuction().getLeaderUserId());
+    }
+}
@@ -0,0 +1,159 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.util.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BidPersisterTest {
+
+    private static final long POISON = 13;
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private BidPersister persister;
+    // sequences of every row handed to the batch insert, in order; the persister reuses its batch list
+    private final List<Long> inserted = new CopyOnWriteArrayList<>();
+    private final List<Long> maximums = new CopyOnWriteArrayList<>();
+    private final AtomicInteger transientFailures = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO bid"), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            Collection<BidPersister.PendingBid> batch = invocation.getArgument(1);
+            if (transientFailures.getAndDecrement() > 0) {
+                throw new QueryTimeoutException("lock wait timeout");
+            }
+            // a batch containing the poison row fails as a whole, like a foreign key violation would
+            if (batch.stream().anyMatch(bid -> bid.record().sequence() == POISON)) {
+                throw new DataIntegrityViolationException("foreign key");
+            }
+            batch.forEach(bid -> inserted.add(bid.record().sequence()));
+            return new int[0][];
+        });
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO proxy_bid"), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            Collection<BidPersister.PendingBid> batch = invocation.getArgument(1);
+            batch.forEach(max -> maximums.add(max.record().sequence()));
+            return new int[0][];
+        });
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(wal_sequence)"), eq(Long.class), eq(0), eq(0))).thenReturn(5L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(wal_sequence)"), eq(Long.class), eq(1), eq(1))).thenReturn(null);
+        transactionManager = mock(PlatformTransactionManager.class);
+        persister = new BidPersister(jdbcTemplate, transactionManager,
+                mock(ArtworkDetailService.class), 2, 0, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persister.shutdown();
+    }
+
+    @Test
+    void watermarkComesFromTheBidTablePerShard() {
+        assertEquals(5, persister.watermark(0));
+        assertEquals(0, persister.watermark(1));
+    }
+
+    @Test
+    void recoverReplaysOnlyRecordsAboveTheWatermark() {
+        persister.recover(0, List.of(record(3), record(5), record(6), record(7), record(8)));
+
+        assertEquals(List.of(6L, 7L, 8L), inserted);
+        assertEquals(8, persister.watermark(0));
+        assertEquals(0, persister.watermark(1));
+    }
+
+    @Test
+    void recoverWritesNothingWhenTheDatabaseIsAhead() {
+        persister.recover(0, List.of(record(4), record(5)));
+
+        assertEquals(List.of(), inserted);
+        assertEquals(5, persister.watermark(0));
+    }
+
+    @Test
+    void queuedBidsRaiseTheWatermarkOnceCommitted() throws Exception {
+        persister.watermark(1);
+        persister.enqueue(1, List.of(record(1), record(2), record(3))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L, 3L), inserted);
+        assertEquals(3, persister.watermark(1));
+    }
+
+    @Test
+    void poisonBatchIsWrittenRowByRowAndTheBadBidDeadLettered() throws Exception {
+        persister.watermark(1);
+        persister.enqueue(1, List.of(record(12), record(POISON), record(14))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(12L, 14L), inserted);
+        assertEquals(14, persister.watermark(1));
+        assertEquals(1L, persister.stats().get("deadLetteredBids"));
+    }
+
+    @Test
+    void transientFailureRetriesTheWholeBatch() throws Exception {
+        persister.watermark(1);
+        transientFailures.set(1);
+        persister.enqueue(1, List.of(record(1), record(2))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L), inserted);
+        assertEquals(0L, persister.stats().get("deadLetteredBids"));
+    }
+
+    @Test
+    void transactionThatCannotBeginIsRetriedNotDeadLettered() throws Exception {
+        persister.watermark(1);
+        // what JpaTransactionManager throws while the database is down
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+                .thenReturn(null);
+        persister.enqueue(1, List.of(record(1), record(2))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L), inserted);
+        assertEquals(2, persister.watermark(1));
+        assertEquals(0L, persister.stats().get("deadLetteredBids"));
+    }
+
+    @Test
+    void maximumBidsAreUpsertedApartFromBidsAndCountTowardsTheWatermark() throws Exception {
+        persister.watermark(1);
+        persister.enqueue(1, List.of(record(1), maximum(2), record(3), maximum(4))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 3L), inserted);
+        assertEquals(List.of(2L, 4L), maximums);
+        assertEquals(4, persister.watermark(1));
+    }
+
+    private static WriteAheadLog.Record record(long seq) {
+        return new WriteAheadLog.Record(seq, WriteAheadLog.BID, 9, 40, 1000 + seq, 1_700_000_000_000L);
+    }
+
+    private static WriteAheadLog.Record maximum(long seq) {
+        return new WriteAheadLog.Record(seq, WriteAheadLog.MAX_BID, 9, 41, 9000 + seq, 1_700_000_000_000L);
+    }
+}
@@ -0,0 +1,141 @@
+package lk.artify.backend.service;
+
+import lk.artify.backend.dto.BidResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Contention benchmark for the database bid path: 1, 16 and 256 bidders
+ * hammer a single auction, each always bidding the minimum next amount it
+ * last saw. Reports accepted bids and attempts per second, then checks that
+ * every accepted bid was stored and the auction ended on the highest one.
+ *
+ * Needs the configured database: mvn test -Dbenchmark=true -Dtest=DatabaseBidContentionBenchmarkTest
+ */
+// a flat increment keeps amounts small however many bids a run accepts
+@SpringBootTest(properties = {"artify.auctions.bidding=database", "artify.auctions.min-increment-percent=0"})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DatabaseBidContentionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBidContentionBenchmarkTest.class);
+
+    private static final int[] BIDDERS = {1, 16, 256};
+    private static final long SECONDS_PER_RUN = 5;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> auctionIds = new ArrayList<>();
+
+    @Test
+    void throughputUnderContention() throws Exception {
+        String run = Long.toString(System.nanoTime(), 36);
+        for (int i = 0; i < BIDDERS[BIDDERS.length - 1]; i++) {
+            userIds.add(insert("INSERT INTO users (username, email, first_name, last_name, password, verify) "
+                    + "VALUES (?, ?, 'Bench', 'Bidder', 'x', true)", "bench-" + run + "-" + i, "bench-" + run + "-" + i + "@example.com"));
+        }
+
+        log.info(String.format("%8s %12s %12s %10s", "bidders", "accepted/s", "attempts/s", "rejected"));
+        for (int bidders : BIDDERS) {
+            LocalDateTime now = LocalDateTime.now();
+            long auctionId = insert("INSERT INTO auction (auction_name, start_date_time, end_date_time, minimum_bid, closed, version, bid_count) "
+                    + "VALUES (?, ?, ?, 1.0, false, 0, 0)", "bench-" + run + "-" + bidders,
+                    Timestamp.valueOf(now.minusMinutes(1)), Timestamp.valueOf(now.plusHours(1)));
+            auctionIds.add(auctionId);
+
+            AtomicLong accepted = new AtomicLong();
+            AtomicLong attempts = new AtomicLong();
+            AtomicLong highest = new AtomicLong();
+            ExecutorService pool = Executors.newFixedThreadPool(bidders);
+            CountDownLatch start = new CountDownLatch(1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS_PER_RUN);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int b = 0; b < bidders; b++) {
+                long userId = userIds.get(b);
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    long next = 100;
+                    while (System.nanoTime() < deadline) {
+                        BidResultDTO result = bidService.placeBid(auctionId, userId, next).get();
+                        attempts.incrementAndGet();
+                        if (result.isAccepted()) {
+                            accepted.incrementAndGet();
+                            highest.accumulateAndGet(next, Math::max);
+                        }
+                        if (result.getAuction() != null) {
+                            next = BidService.toCents(result.getAuction().getMinimumNextBid());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            pool.shutdown();
+
+            log.info(String.format("%8d %12.0f %12.0f %10d", bidders, accepted.get() / seconds,
+                    attempts.get() / seconds, attempts.get() - accepted.get()));
+
+            Long stored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bid WHERE auction_id = ?", Long.class, auctionId);
+            Double current = jdbcTemplate.queryForObject("SELECT current_bid FROM auction WHERE id = ?", Double.class, auctionId);
+            Long counted = jdbcTemplate.queryForObject("SELECT bid_count FROM auction WHERE id = ?", Long.class, auctionId);
+            assertEquals(accepted.get(), stored);
+            assertEquals(accepted.get(), counted);
+            assertEquals(highest.get(), Math.round(current * 100));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (Long auctionId : auctionIds) {
+            jdbcTemplate.update("DELETE FROM bid WHERE auction_id = ?", auctionId);
+            jdbcTemplate.update("DELETE FROM auction WHERE id = ?", auctionId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
@@ -0,0 +1,85 @@
+package lk.artify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    void timerFiresOnTheFirstAdvancePastItsTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("a", 35);
+
+        wheel.advance(39, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(40, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersCascadeDownFromEveryLevel() {
+        // level 0 covers 8 ticks, level 1 covers 64 and level 2 covers 512
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            deadlines.add((long) random.nextInt(5000));
+        }
+        // right on the level boundaries, and past the top level's horizon
+        deadlines.addAll(List.of(79L, 80L, 639L, 640L, 5119L, 5120L, 40_000L));
+        deadlines.forEach(d -> wheel.schedule(d, d));
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 41_000; now += TICK) {
+            long at = now;
+            wheel.advance(now, deadline -> {
+                fired.add(deadline);
+                firedAt.merge(deadline, at, Math::max);
+            });
+        }
+
+        assertEquals(0, wheel.size());
+        assertEquals(deadlines.size(), fired.size());
+        for (long deadline : deadlines) {
+            long tickEnd = (deadline / TICK + 1) * TICK;
+            assertEquals(tickEnd, firedAt.get(deadline), "deadline " + deadline);
+        }
+    }
+
+    @Test
+    void longJumpFiresEverythingDue() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, 0);
+        for (long deadline = 0; deadline < 3000; deadline += 7) {
+            wheel.schedule(deadline, deadline);
+        }
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(1500, fired::add);
+
+        assertTrue(fired.stream().allMatch(d -> d < 1500));
+        assertEquals(1500 / 7 + 1, fired.size());
+        assertEquals((3000 - 1) / 7 + 1 - fired.size(), wheel.size());
+    }
+
+    @Test
+    void deadlineInThePastFiresOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, 2, 1000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("late", 500);
+
+        wheel.advance(1000, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+}
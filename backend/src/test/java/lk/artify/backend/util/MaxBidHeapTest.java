@@ -0,0 +1,62 @@
+package lk.artify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaxBidHeapTest {
+
+    @Test
+    void equalMaximumsRankByWhenTheyWerePlaced() {
+        MaxBidHeap heap = new MaxBidHeap(2);
+        heap.raise(1, 500);
+        heap.raise(2, 500);
+        assertEquals(1, heap.topUser());
+        assertEquals(500, heap.secondAmount());
+
+        // a raise counts as a new bid, so reaching the same amount again ranks behind
+        assertTrue(heap.raise(3, 400));
+        assertTrue(heap.raise(3, 500));
+        assertFalse(heap.raise(1, 500));
+        assertEquals(1, heap.topUser());
+        assertTrue(heap.raise(2, 600));
+        assertEquals(2, heap.topUser());
+        assertEquals(500, heap.secondAmount());
+    }
+
+    @Test
+    void tracksEveryUserAcrossGrowth() {
+        MaxBidHeap heap = new MaxBidHeap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        Map<Long, Long> raisedAt = new HashMap<>();
+        Random random = new Random(7);
+        for (long step = 0; step < 20_000; step++) {
+            // sparse, negative and colliding ids all go through the same table
+            long user = random.nextInt(3000) * 4_294_967_296L - 1;
+            long amount = random.nextInt(1_000_000);
+            boolean raises = amount > expected.getOrDefault(user, -1L);
+            assertEquals(raises, heap.raise(user, amount));
+            if (raises) {
+                expected.put(user, amount);
+                raisedAt.put(user, step);
+            }
+        }
+
+        assertEquals(expected.size(), heap.size());
+        expected.forEach((user, amount) -> assertEquals(amount, heap.maximum(user)));
+        assertEquals(-1, heap.maximum(12345));
+        List<Long> ranked = new ArrayList<>(expected.keySet());
+        ranked.sort(Comparator.comparing((Long user) -> -expected.get(user)).thenComparing(raisedAt::get));
+        assertEquals(ranked.get(0), heap.topUser());
+        assertEquals(expected.get(ranked.get(1)), heap.secondAmount());
+    }
+}
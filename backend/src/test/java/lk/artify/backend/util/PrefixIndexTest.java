@@ -0,0 +1,73 @@
+package lk.artify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    private static final PrefixIndex<String> INDEX = PrefixIndex.build(List.of(
+            new PrefixIndex.Entry<>("Sunset over Galle", "sunset", 5),
+            new PrefixIndex.Entry<>("Galle Fort", "fort", 5),
+            new PrefixIndex.Entry<>("Gallery Night", "gallery", 9),
+            new PrefixIndex.Entry<>("Café Élan", "cafe", 3),
+            new PrefixIndex.Entry<>("Colombo", "colombo", 1)), 10);
+
+    @Test
+    void matchesTheStartOfAnyWord() {
+        assertEquals(List.of("gallery", "fort", "sunset"), INDEX.lookup("galle", 10));
+        assertEquals(List.of("sunset"), INDEX.lookup("over", 10));
+        // only word starts are indexed
+        assertTrue(INDEX.lookup("alle", 10).isEmpty());
+    }
+
+    @Test
+    void foldsAccentsAndCase() {
+        assertEquals(List.of("cafe"), INDEX.lookup("CAFE EL", 10));
+        assertEquals(List.of("cafe"), INDEX.lookup("élan", 10));
+        assertEquals(List.of("cafe"), INDEX.lookup("ELAN", 10));
+    }
+
+    @Test
+    void collapsesRepeatedWhitespaceInThePrefix() {
+        assertEquals(List.of("sunset"), INDEX.lookup("  sunset \t  over   gal", 10));
+        assertEquals(List.of("sunset"), INDEX.lookup("sunset ", 10));
+    }
+
+    @Test
+    void equalScoresRankByTextAndTopKCapsEveryNode() {
+        PrefixIndex<String> top2 = PrefixIndex.build(List.of(
+                new PrefixIndex.Entry<>("Sunset over Galle", "sunset", 5),
+                new PrefixIndex.Entry<>("Galle Fort", "fort", 5),
+                new PrefixIndex.Entry<>("Sunrise", "sunrise", 5)), 2);
+
+        // all tied, so "Galle Fort" < "Sunrise" < "Sunset over Galle"
+        assertEquals(List.of("fort", "sunset"), top2.lookup("galle", 10));
+        assertEquals(List.of("sunrise", "sunset"), top2.lookup("sun", 10));
+        // the root keeps only the best two of the three
+        assertEquals(List.of("fort", "sunrise"), top2.lookup("", 10));
+        assertEquals(List.of("fort"), top2.lookup("galle", 1));
+    }
+
+    @Test
+    void prefixMayEndPartWayThroughAnEdgeLabel() {
+        PrefixIndex<String> single = PrefixIndex.build(List.of(
+                new PrefixIndex.Entry<>("Galle Fort", "fort", 1)), 10);
+
+        // with one entry, the root's "g" child carries the whole key "galle fort" as its label
+        assertEquals(List.of("fort"), single.lookup("g", 10));
+        assertEquals(List.of("fort"), single.lookup("galle f", 10));
+        assertTrue(single.lookup("galx", 10).isEmpty());
+        assertTrue(single.lookup("galle fortress", 10).isEmpty());
+        assertEquals(List.of("gallery"), INDEX.lookup("gallery n", 10));
+    }
+
+    @Test
+    void emptyPrefixReturnsTheBestOverall() {
+        assertEquals(List.of("gallery", "fort"), INDEX.lookup("", 2));
+        assertTrue(PrefixIndex.<String>empty().lookup("a", 10).isEmpty());
+    }
+}
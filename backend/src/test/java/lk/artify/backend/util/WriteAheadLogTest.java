@@ -0,0 +1,111 @@
+package lk.artify.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void syncedRecordsAreRecoveredInOrder() throws IOException {
+        Path path = dir.resolve("shard.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 2)) {
+            // more appends than the batch capacity, so the pending buffer has to grow
+            for (long seq = 1; seq <= 3; seq++) {
+                wal.append(record(seq));
+            }
+            wal.sync();
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 2)) {
+            assertEquals(List.of(record(1), record(2), record(3)), wal.recovered());
+        }
+    }
+
+    @Test
+    void unsyncedAppendsAreNotWritten() throws IOException {
+        Path path = dir.resolve("shard.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            wal.append(record(1));
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            assertTrue(wal.recovered().isEmpty());
+            assertEquals(0, wal.size());
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedAndAppendsContinueAfterIt() throws IOException {
+        Path path = dir.resolve("shard.wal");
+        write(path, 1, 2);
+        // a crash part way through the third record
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[WriteAheadLog.RECORD_BYTES / 2]));
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            assertEquals(List.of(record(1), record(2)), wal.recovered());
+            assertEquals(2L * WriteAheadLog.RECORD_BYTES, wal.size());
+            wal.append(record(3));
+            wal.sync();
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            assertEquals(List.of(record(1), record(2), record(3)), wal.recovered());
+        }
+    }
+
+    @Test
+    void recoveryStopsAtTheFirstRecordFailingItsChecksum() throws IOException {
+        Path path = dir.resolve("shard.wal");
+        write(path, 1, 3);
+        byte[] bytes = Files.readAllBytes(path);
+        // flip a bit in the amount of the second record
+        bytes[WriteAheadLog.RECORD_BYTES + 3 * Long.BYTES + 1] ^= 1;
+        Files.write(path, bytes);
+
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            assertEquals(List.of(record(1)), wal.recovered());
+            assertEquals(WriteAheadLog.RECORD_BYTES, wal.size());
+        }
+    }
+
+    @Test
+    void truncateEmptiesTheLog() throws IOException {
+        Path path = dir.resolve("shard.wal");
+        write(path, 1, 2);
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            wal.truncate();
+            wal.append(record(3));
+            wal.sync();
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            assertEquals(List.of(record(3)), wal.recovered());
+        }
+    }
+
+    private static void write(Path path, long fromSeq, long toSeq) throws IOException {
+        try (WriteAheadLog wal = WriteAheadLog.open(path, 4)) {
+            for (long seq = fromSeq; seq <= toSeq; seq++) {
+                wal.append(record(seq));
+            }
+            wal.sync();
+        }
+    }
+
+    private static WriteAheadLog.Record record(long seq) {
+        byte type = seq % 2 == 0 ? WriteAheadLog.MAX_BID : WriteAheadLog.BID;
+        return new WriteAheadLog.Record(seq, type, 7, 100 + seq, 1000 * seq, 1_700_000_000_000L + seq);
+    }
+}